@@ -0,0 +1,47 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Caffeine caches, bounded by size (W-TinyLFU eviction) and expired after
+ * write. Caches listed under {@code cache.specs} are created at startup, so
+ * actuator binds their hit, miss and eviction counts to the {@code cache.*}
+ * metrics; any other cache name gets the defaults on first use. Each cache
+ * is a {@link SingleFlightCaffeineCache}, so concurrent misses on a key
+ * share one load.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties props) {
+        CaffeineCacheManager manager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                Duration loadTimeout = props.specs().getOrDefault(name, props.defaults())
+                        .orElse(props.defaults()).loadTimeout();
+                return new SingleFlightCaffeineCache(name, cache, isAllowNullValues(), loadTimeout);
+            }
+        };
+        manager.setCaffeine(builder(props.defaults()));
+        props.specs().forEach((name, spec) ->
+                manager.registerCustomCache(name, builder(spec.orElse(props.defaults())).build()));
+        return manager;
+    }
+
+    static Caffeine<Object, Object> builder(CacheProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.maximumSize() != null) builder.maximumSize(spec.maximumSize());
+        if (spec.expireAfterWrite() != null) builder.expireAfterWrite(spec.expireAfterWrite());
+        return builder;
+    }
+}
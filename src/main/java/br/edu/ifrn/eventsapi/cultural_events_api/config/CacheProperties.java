@@ -0,0 +1,34 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Bounds for the local caches. {@code specs} is keyed by cache name; unset
+ * fields fall back to {@code defaults}, whose unset fields fall back to
+ * {@link #BUILT_IN}. {@code loadTimeout} is how long a request waits on
+ * another request's load of the same key.
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CacheProperties(Spec defaults, Map<String, Spec> specs) {
+
+    static final Spec BUILT_IN = new Spec(1000L, Duration.ofMinutes(10), Duration.ofSeconds(5));
+
+    public CacheProperties {
+        defaults = defaults != null ? defaults.orElse(BUILT_IN) : BUILT_IN;
+        if (specs == null) specs = Map.of();
+    }
+
+    public record Spec(Long maximumSize, Duration expireAfterWrite, Duration loadTimeout) {
+
+        Spec orElse(Spec fallback) {
+            return new Spec(
+                    maximumSize != null ? maximumSize : fallback.maximumSize(),
+                    expireAfterWrite != null ? expireAfterWrite : fallback.expireAfterWrite(),
+                    loadTimeout != null ? loadTimeout : fallback.loadTimeout()
+            );
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.config;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.CacheLoadTimeoutException;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Caffeine cache whose synchronized loads ({@code @Cacheable(sync = true)})
+ * are coalesced per key with a bounded wait. The first miss runs the loader on
+ * its own (caller's) thread through Caffeine's atomic compute, so an eviction
+ * or in-place patch of the key issued during the load waits for it and applies
+ * to the loaded value, never the other way round. Concurrent misses for the
+ * same key wait on that load instead of querying again; a failed load is
+ * rethrown to all of them and nothing is cached. Only waiters are bounded by
+ * {@code loadTimeout} and give up with a {@link CacheLoadTimeoutException};
+ * the loading caller runs until its query returns, and its result still fills
+ * the cache.
+ */
+public class SingleFlightCaffeineCache extends CaffeineCache {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration loadTimeout;
+
+    public SingleFlightCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                     boolean allowNullValues, Duration loadTimeout) {
+        super(name, cache, allowNullValues);
+        this.loadTimeout = loadTimeout;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper hit = get(key);
+        if (hit != null) return (T) hit.get();
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> flight = inFlight.putIfAbsent(key, mine);
+        if (flight == null) {
+            return load(key, valueLoader, mine);
+        }
+        return (T) await(key, valueLoader, flight);
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            T value = super.get(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (ValueRetrievalException ex) {
+            flight.completeExceptionally(ex.getCause());
+            throw ex;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            return loadTimeout != null
+                    ? flight.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    : flight.get();
+        } catch (ExecutionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ValueRetrievalException(key, valueLoader, new CacheLoadTimeoutException(
+                    "Timed out after " + loadTimeout.toMillis() + " ms waiting for cache " + getName() + " to load key " + key));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.controller;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.BulkCancelResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.WaitingRoomResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.BulkCancellationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/reservations")
+@RequiredArgsConstructor
+public class ReservationAdminController {
+
+    private final BulkCancellationService bulkCancellationService;
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/cancel")
+    public BulkCancelResponse cancel(@RequestParam(required = false) Long sessionId,
+                                     @RequestParam(required = false) Long eventId) {
+        return bulkCancellationService.cancel(sessionId, eventId);
+    }
+
+    @PutMapping("/waiting-room/{sessionId}")
+    public WaitingRoomResponse openWaitingRoom(@PathVariable Long sessionId,
+                                               @RequestParam(required = false) Double admitPerSecond) {
+        return waitingRoomService.open(sessionId, admitPerSecond);
+    }
+
+    @GetMapping("/waiting-room/{sessionId}")
+    public WaitingRoomResponse waitingRoom(@PathVariable Long sessionId) {
+        return waitingRoomService.get(sessionId);
+    }
+
+    @DeleteMapping("/waiting-room/{sessionId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void closeWaitingRoom(@PathVariable Long sessionId) {
+        waitingRoomService.close(sessionId);
+    }
+}
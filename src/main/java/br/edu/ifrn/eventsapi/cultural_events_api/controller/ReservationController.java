@@ -1,15 +1,32 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.controller;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartCheckoutRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartLineRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.AvailabilityResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.CheckInResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationPage;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.AvailabilityStreamService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.CheckInService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationExportService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationIdempotencyService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationRateLimiter;
 import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.WaitingRoomService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.Principal;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -17,17 +34,76 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReservationController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ReservationService reservationService;
+    private final ReservationIdempotencyService reservationIdempotencyService;
+    private final AvailabilityStreamService availabilityStreamService;
+    private final ReservationExportService reservationExportService;
+    private final CheckInService checkInService;
+    private final ReservationRateLimiter reservationRateLimiter;
+    private final WaitingRoomService waitingRoomService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ReservationResponse create(@Valid @RequestBody ReservationCreateRequest req) {
-        return reservationService.create(req);
+    public ReservationResponse create(@Valid @RequestBody ReservationCreateRequest req,
+                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                      @RequestHeader(value = WaitingRoomController.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+                                      Principal principal) {
+        String name = principal == null ? null : principal.getName();
+        reservationRateLimiter.check(name, req.customerEmail());
+        if (waitingRoomService.isOpen(req.sessionId())) {
+            Optional<ReservationResponse> replayed = reservationIdempotencyService.replay(req, name, idempotencyKey);
+            if (replayed.isPresent()) return replayed.get();
+        }
+        return waitingRoomService.reserve(req.sessionId(), queueToken, name,
+                () -> reservationIdempotencyService.create(req, name, idempotencyKey));
+    }
+
+    @PostMapping("/holds")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ReservationResponse hold(@Valid @RequestBody ReservationCreateRequest req,
+                                    @RequestHeader(value = WaitingRoomController.QUEUE_TOKEN_HEADER, required = false) String queueToken,
+                                    Principal principal) {
+        String name = principal == null ? null : principal.getName();
+        reservationRateLimiter.check(name, req.customerEmail());
+        return waitingRoomService.reserve(req.sessionId(), queueToken, name, () -> reservationService.hold(req));
+    }
+
+    @PostMapping("/cart")
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<ReservationResponse> checkout(@Valid @RequestBody CartCheckoutRequest req, Principal principal) {
+        reservationRateLimiter.check(principal == null ? null : principal.getName(), req.customerEmail());
+        waitingRoomService.requireNoRoom(req.lines().stream().map(CartLineRequest::sessionId).toList());
+        return reservationService.checkout(req);
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ReservationResponse confirm(@PathVariable Long id) {
+        return reservationService.confirm(id);
     }
 
     @GetMapping
-    public List<ReservationResponse> list(@RequestParam(required = false) String email) {
-        return reservationService.list(email);
+    public ResponseEntity<List<ReservationResponse>> list(@RequestParam(required = false) String email,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        ReservationPage page = reservationService.list(email, cursor, size);
+        ResponseEntity.BodyBuilder res = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            res.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return res.body(page.items());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(required = false) Long sessionId,
+                                                        @RequestParam(required = false) Long eventId,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        ReservationExportService.Format f = reservationExportService.validate(sessionId, eventId, format);
+        return ResponseEntity.ok()
+                .contentType(f.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations." + f.extension() + "\"")
+                .body(out -> reservationExportService.write(sessionId, eventId, f, out));
     }
 
     @GetMapping("/{id}")
@@ -45,6 +121,21 @@ public class ReservationController {
         return reservationService.ticket(code);
     }
 
+    @PostMapping("/ticket/{code}/check-in")
+    public CheckInResponse checkIn(@PathVariable UUID code) {
+        return checkInService.checkIn(code);
+    }
+
+    @GetMapping("/availability")
+    public List<AvailabilityResponse> availability(@RequestParam List<Long> sessionIds) {
+        return reservationService.availability(sessionIds);
+    }
+
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter availabilityStream(@RequestParam List<Long> sessionIds) {
+        return availabilityStreamService.subscribe(sessionIds);
+    }
+
     @GetMapping("/availability/{sessionId}")
     public AvailabilityResponse availability(@PathVariable Long sessionId) {
         return reservationService.availability(sessionId);
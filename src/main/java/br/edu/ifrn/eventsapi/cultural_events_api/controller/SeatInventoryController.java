@@ -0,0 +1,33 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.controller;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.JournalReplayResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatBackfillResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatDriftResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.SeatInventoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/seat-inventory")
+@RequiredArgsConstructor
+public class SeatInventoryController {
+
+    private final SeatInventoryService seatInventoryService;
+
+    @GetMapping("/drift")
+    public List<SeatDriftResponse> drift() {
+        return seatInventoryService.drift();
+    }
+
+    @PostMapping("/backfill")
+    public SeatBackfillResponse backfill() {
+        return seatInventoryService.backfill();
+    }
+
+    @GetMapping("/journal")
+    public List<JournalReplayResponse> journal() {
+        return seatInventoryService.journalReplay();
+    }
+}
@@ -0,0 +1,41 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.controller;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.QueueTicketResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/v1/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/{sessionId}")
+    @ResponseStatus(HttpStatus.CREATED)
+    public QueueTicketResponse join(@PathVariable Long sessionId, Principal principal) {
+        return waitingRoomService.join(sessionId, principal.getName());
+    }
+
+    @GetMapping("/{sessionId}")
+    public QueueTicketResponse status(@PathVariable Long sessionId,
+                                      @RequestHeader(QUEUE_TOKEN_HEADER) String token,
+                                      Principal principal) {
+        return waitingRoomService.status(sessionId, token, principal.getName());
+    }
+
+    @GetMapping(value = "/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long sessionId,
+                             @RequestParam String token,
+                             Principal principal) {
+        return waitingRoomService.subscribe(sessionId, token, principal.getName());
+    }
+}
@@ -0,0 +1,14 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record CartCheckoutRequest(
+        @NotBlank String customerName,
+        @NotBlank @Email String customerEmail,
+        @NotEmpty List<@Valid CartLineRequest> lines
+) {}
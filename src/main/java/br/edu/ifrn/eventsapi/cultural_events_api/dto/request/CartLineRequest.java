@@ -0,0 +1,9 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record CartLineRequest(
+        @NotNull Long sessionId,
+        @NotNull @Min(1) Integer quantity
+) {}
@@ -2,6 +2,7 @@ package br.edu.ifrn.eventsapi.cultural_events_api.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import java.time.LocalDate;
 
@@ -10,5 +11,6 @@ public record EventCreateRequest(
         String description,
         String category,
         @NotNull LocalDate startDate,
-        @NotNull LocalDate endDate
+        @NotNull LocalDate endDate,
+        @Positive Integer maxTicketsPerCustomer
 ) {}
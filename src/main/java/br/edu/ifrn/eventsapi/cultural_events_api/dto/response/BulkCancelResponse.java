@@ -0,0 +1,10 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkCancelResponse(
+        Integer canceled,
+        Long seatsReleased,
+        List<UUID> codes
+) {}
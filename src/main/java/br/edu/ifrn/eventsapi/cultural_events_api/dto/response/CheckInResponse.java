@@ -0,0 +1,13 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CheckInResponse(
+        Long reservationId,
+        Long sessionId,
+        UUID code,
+        String customerName,
+        Integer quantity,
+        LocalDateTime checkedInAt
+) {}
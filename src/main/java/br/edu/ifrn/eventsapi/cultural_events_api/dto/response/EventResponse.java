@@ -8,5 +8,6 @@ public record EventResponse(
         String description,
         String category,
         LocalDate startDate,
-        LocalDate endDate
+        LocalDate endDate,
+        Integer maxTicketsPerCustomer
 ) {}
@@ -0,0 +1,7 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+public record JournalReplayResponse(
+        Long sessionId,
+        Integer reservedSeats,
+        Long journalSeats
+) {}
@@ -0,0 +1,8 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+public record QueueTicketResponse(
+        Long sessionId,
+        String token,
+        Long position,
+        Boolean admitted
+) {}
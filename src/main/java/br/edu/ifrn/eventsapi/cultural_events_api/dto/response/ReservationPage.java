@@ -0,0 +1,8 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+import java.util.List;
+
+public record ReservationPage(
+        List<ReservationResponse> items,
+        String nextCursor
+) {}
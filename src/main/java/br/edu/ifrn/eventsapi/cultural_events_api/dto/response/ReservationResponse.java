@@ -13,5 +13,6 @@ public record ReservationResponse(
         Integer quantity,
         ReservationStatus status,
         UUID code,
-        LocalDateTime createdAt
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt
 ) {}
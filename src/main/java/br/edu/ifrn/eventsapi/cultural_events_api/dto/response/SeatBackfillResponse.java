@@ -0,0 +1,6 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.dto.response;
+
+public record SeatBackfillResponse(
+        Integer sessionsUpdated,
+        Integer customerCountsUpdated
+) {}
@@ -1,8 +1,15 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.controller;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.CacheLoadTimeoutException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.ConflictException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.RateLimitExceededException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.SubscriberLimitExceededException;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,6 +34,55 @@ public class ApiExceptionHandler {
         return pd;
     }
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ProblemDetail handleConflict(ConflictException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        pd.setTitle("Conflict");
+        pd.setDetail(ex.getMessage());
+        return pd;
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimit(RateLimitExceededException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.TOO_MANY_REQUESTS);
+        pd.setTitle("Too Many Requests");
+        pd.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(pd);
+    }
+
+    @ExceptionHandler(OutcomeUnknownException.class)
+    public ResponseEntity<ProblemDetail> handleOutcomeUnknown(OutcomeUnknownException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setTitle("Outcome Unknown");
+        pd.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(pd);
+    }
+
+    @ExceptionHandler(CacheLoadTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleCacheLoadTimeout(CacheLoadTimeoutException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setTitle("Service Unavailable");
+        pd.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(pd);
+    }
+
+    @ExceptionHandler(SubscriberLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleSubscriberLimit(SubscriberLimitExceededException ex) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setTitle("Service Unavailable");
+        pd.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(pd);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ProblemDetail handleValidation(MethodArgumentNotValidException ex) {
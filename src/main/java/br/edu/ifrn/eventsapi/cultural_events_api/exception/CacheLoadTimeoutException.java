@@ -0,0 +1,8 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.exception;
+
+public class CacheLoadTimeoutException extends RuntimeException {
+
+    public CacheLoadTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.exception;
+
+/**
+ * The caller stopped waiting, but the write it was waiting on may still
+ * commit. Retrying with the same {@code Idempotency-Key} returns the real
+ * outcome.
+ */
+public class OutcomeUnknownException extends RuntimeException {
+
+    public OutcomeUnknownException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.exception;
+
+/**
+ * A stream has reached its subscriber cap. Answered with {@code 503} and
+ * {@code Retry-After}: a slot frees up as soon as another subscriber leaves.
+ */
+public class SubscriberLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public SubscriberLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
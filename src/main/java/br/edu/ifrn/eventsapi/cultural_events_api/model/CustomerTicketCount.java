@@ -0,0 +1,35 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Tickets held by one customer (lower-cased email) for one event, counting
+ * active reservations and holds. Only changed through conditional native
+ * statements in {@code CustomerTicketCountRepository}.
+ */
+@Entity
+@Table(name = "customer_ticket_counts")
+@IdClass(CustomerTicketCount.Key.class)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor
+public class CustomerTicketCount {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "customer_email", length = 160)
+    private String customerEmail;
+
+    @Column(nullable = false)
+    private Integer tickets;
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long eventId;
+        private String customerEmail;
+    }
+}
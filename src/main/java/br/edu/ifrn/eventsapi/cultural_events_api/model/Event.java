@@ -9,7 +9,8 @@ import java.time.LocalDate;
 @Table(name = "events")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Event {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 140)
@@ -26,4 +27,6 @@ public class Event {
 
     @Column(nullable = false)
     private LocalDate endDate;
+
+    private Integer maxTicketsPerCustomer;
 }
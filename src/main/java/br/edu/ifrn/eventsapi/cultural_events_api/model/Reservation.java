@@ -9,7 +9,8 @@ import java.util.UUID;
 @Table(name = "reservations")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Reservation {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -35,10 +36,20 @@ public class Reservation {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    private LocalDateTime expiresAt;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime checkedInAt;
+
+    @Column(unique = true, updatable = false, length = 100)
+    private String idempotencyKey;
+
     @PrePersist
     void onCreate() {
         if (status == null) status = ReservationStatus.ACTIVE;
-        if (code == null) code = UUID.randomUUID();
+        if (code == null) {
+            throw new IllegalStateException("Reservation code must be assigned by ReservationCodeGenerator before persisting");
+        }
         if (createdAt == null) createdAt = LocalDateTime.now();
     }
 }
@@ -1,6 +1,11 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.model;
 
+import java.util.List;
+
 public enum ReservationStatus {
     ACTIVE,
-    CANCELED
+    HELD,
+    CANCELED;
+
+    public static final List<ReservationStatus> HOLDING_SEATS = List.of(ACTIVE, HELD);
 }
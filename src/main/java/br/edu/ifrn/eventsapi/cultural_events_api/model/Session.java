@@ -2,6 +2,7 @@ package br.edu.ifrn.eventsapi.cultural_events_api.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -9,7 +10,8 @@ import java.time.LocalDateTime;
 @Table(name = "sessions")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Session {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sessions_seq")
+    @SequenceGenerator(name = "sessions_seq", sequenceName = "sessions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -25,4 +27,9 @@ public class Session {
 
     @Column(nullable = false)
     private BigDecimal price;
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Integer reservedSeats = 0;
 }
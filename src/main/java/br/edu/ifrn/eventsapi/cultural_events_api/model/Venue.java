@@ -13,7 +13,8 @@ import lombok.*;
 public class Venue {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "venues_seq")
+    @SequenceGenerator(name = "venues_seq", sequenceName = "venues_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 120)
@@ -0,0 +1,82 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.repository;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.CustomerTicketCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface CustomerTicketCountRepository extends JpaRepository<CustomerTicketCount, CustomerTicketCount.Key> {
+
+    /**
+     * Adds {@code quantity} tickets to the customer's counter for the session's
+     * event, unless that would pass the event's per-customer cap.
+     * @return 1 if the counter was changed, 0 if the cap was reached
+     */
+    @Modifying
+    @Query(value = """
+        insert into customer_ticket_counts (event_id, customer_email, tickets)
+        select s.event_id, lower(:email), :quantity
+        from sessions s
+        join events e on e.id = s.event_id
+        where s.id = :sessionId and :quantity <= coalesce(e.max_tickets_per_customer, 2147483647)
+        on conflict (event_id, customer_email) do update
+        set tickets = customer_ticket_counts.tickets + excluded.tickets
+        where customer_ticket_counts.tickets + excluded.tickets
+              <= (select coalesce(e.max_tickets_per_customer, 2147483647) from events e where e.id = excluded.event_id)
+    """, nativeQuery = true)
+    int tryAddTickets(@Param("sessionId") Long sessionId, @Param("email") String email, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = """
+        update customer_ticket_counts c
+        set tickets = c.tickets - :quantity
+        from sessions s
+        where s.id = :sessionId
+          and c.event_id = s.event_id
+          and c.customer_email = lower(:email)
+          and c.tickets >= :quantity
+    """, nativeQuery = true)
+    int releaseTickets(@Param("sessionId") Long sessionId, @Param("email") String email, @Param("quantity") int quantity);
+
+    @Query(value = """
+        select e.max_tickets_per_customer
+        from sessions s
+        join events e on e.id = s.event_id
+        where s.id = :sessionId
+    """, nativeQuery = true)
+    Optional<Integer> findMaxTicketsPerCustomer(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query(value = """
+        insert into customer_ticket_counts (event_id, customer_email, tickets)
+        select s.event_id, lower(r.customer_email), sum(r.quantity)
+        from reservations r
+        join sessions s on s.id = r.session_id
+        where r.status in (:statuses)
+        group by s.event_id, lower(r.customer_email)
+        on conflict (event_id, customer_email) do update
+        set tickets = excluded.tickets
+        where customer_ticket_counts.tickets <> excluded.tickets
+    """, nativeQuery = true)
+    int recountTickets(@Param("statuses") Collection<String> statuses);
+
+    @Modifying
+    @Query(value = """
+        update customer_ticket_counts c
+        set tickets = 0
+        where c.tickets <> 0
+          and not exists (
+              select 1
+              from reservations r
+              join sessions s on s.id = r.session_id
+              where s.event_id = c.event_id
+                and lower(r.customer_email) = c.customer_email
+                and r.status in (:statuses)
+          )
+    """, nativeQuery = true)
+    int clearStaleTickets(@Param("statuses") Collection<String> statuses);
+}
@@ -0,0 +1,8 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.repository;
+
+import java.time.LocalDateTime;
+
+public interface HeldReservation {
+    Long getReservationId();
+    LocalDateTime getExpiresAt();
+}
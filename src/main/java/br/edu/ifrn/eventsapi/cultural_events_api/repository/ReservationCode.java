@@ -0,0 +1,8 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.repository;
+
+import java.util.UUID;
+
+public interface ReservationCode {
+    Long getReservationId();
+    UUID getCode();
+}
@@ -2,20 +2,79 @@ package br.edu.ifrn.eventsapi.cultural_events_api.repository;
 
 import br.edu.ifrn.eventsapi.cultural_events_api.model.Reservation;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    List<Reservation> findByCustomerEmail(String customerEmail);
+    @Query(value = """
+        select * from reservations
+        where customer_email = :email
+        order by created_at desc, id desc
+        limit :limit
+    """, nativeQuery = true)
+    List<Reservation> findFirstPageByEmail(@Param("email") String email, @Param("limit") int limit);
+
+    @Query(value = """
+        select * from reservations
+        where customer_email = :email and (created_at, id) < (:createdAt, :id)
+        order by created_at desc, id desc
+        limit :limit
+    """, nativeQuery = true)
+    List<Reservation> findPageByEmailBefore(@Param("email") String email,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            @Param("limit") int limit);
+
+    @Query(value = """
+        select * from reservations
+        order by created_at desc, id desc
+        limit :limit
+    """, nativeQuery = true)
+    List<Reservation> findFirstPage(@Param("limit") int limit);
+
+    @Query(value = """
+        select * from reservations
+        where (created_at, id) < (:createdAt, :id)
+        order by created_at desc, id desc
+        limit :limit
+    """, nativeQuery = true)
+    List<Reservation> findPageBefore(@Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     @Param("limit") int limit);
 
     Optional<Reservation> findByCode(UUID code);
 
+    Optional<Reservation> findByIdempotencyKey(String idempotencyKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("""
+        select r.id as reservationId, r.code as code
+        from Reservation r
+        where r.id > :afterId
+        order by r.id
+    """)
+    List<ReservationCode> findCodesAfter(@Param("afterId") Long afterId, Pageable page);
+
+    @Query("""
+        select r.id as reservationId, r.expiresAt as expiresAt
+        from Reservation r
+        where r.status = br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus.HELD
+    """)
+    List<HeldReservation> findHeld();
+
     @Query("""
         select coalesce(sum(r.quantity), 0)
         from Reservation r
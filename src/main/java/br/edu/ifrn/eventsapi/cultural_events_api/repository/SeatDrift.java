@@ -0,0 +1,7 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.repository;
+
+public interface SeatDrift {
+    Long getSessionId();
+    Integer getCounted();
+    Long getActual();
+}
@@ -1,10 +1,75 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.repository;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.Session;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
     List<Session> findByEventId(Long eventId);
+
+    @Query("select s.id from Session s where s.event.id = :eventId order by s.id")
+    List<Long> findIdsByEventId(@Param("eventId") Long eventId);
+
+    @Query("""
+        select s.id as sessionId, v.capacity as capacity, s.reservedSeats as reservedSeats
+        from Session s join s.venue v
+        where s.id = :sessionId
+    """)
+    Optional<SessionSeats> findSeatsById(@Param("sessionId") Long sessionId);
+
+    @Query("""
+        select s.id as sessionId, v.capacity as capacity, s.reservedSeats as reservedSeats
+        from Session s join s.venue v
+        where s.id in :sessionIds
+    """)
+    List<SessionSeats> findSeatsByIdIn(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Modifying
+    @Query("""
+        update Session s
+        set s.reservedSeats = s.reservedSeats + :quantity
+        where s.id = :sessionId
+          and s.reservedSeats + :quantity <= (select v.capacity from Venue v where v.id = s.venue.id)
+    """)
+    int tryReserveSeats(@Param("sessionId") Long sessionId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("""
+        update Session s
+        set s.reservedSeats = s.reservedSeats - :quantity
+        where s.id = :sessionId and s.reservedSeats >= :quantity
+    """)
+    int releaseSeats(@Param("sessionId") Long sessionId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("""
+        update Session s
+        set s.reservedSeats = (
+            select coalesce(sum(r.quantity), 0)
+            from Reservation r
+            where r.session.id = s.id and r.status in :statuses
+        )
+        where s.reservedSeats <> (
+            select coalesce(sum(r.quantity), 0)
+            from Reservation r
+            where r.session.id = s.id and r.status in :statuses
+        )
+    """)
+    int recountReservedSeats(@Param("statuses") Collection<ReservationStatus> statuses);
+
+    @Query("""
+        select s.id as sessionId, s.reservedSeats as counted, coalesce(sum(r.quantity), 0) as actual
+        from Session s
+        left join Reservation r on r.session.id = s.id and r.status in :statuses
+        group by s.id, s.reservedSeats
+        having s.reservedSeats <> coalesce(sum(r.quantity), 0)
+    """)
+    List<SeatDrift> findSeatDrift(@Param("statuses") Collection<ReservationStatus> statuses);
 }
@@ -0,0 +1,7 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.repository;
+
+public interface SessionSeats {
+    Long getSessionId();
+    Integer getCapacity();
+    Integer getReservedSeats();
+}
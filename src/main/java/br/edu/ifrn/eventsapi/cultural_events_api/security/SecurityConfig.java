@@ -1,6 +1,7 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.security;
 
 import br.edu.ifrn.eventsapi.cultural_events_api.service.AppUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +28,9 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Dispatch assíncrono (SSE) já foi autorizado na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger público (inclui path custom /swagger)
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -46,6 +50,21 @@ public class SecurityConfig {
                                 "/api/v1/sessions/**"
                         ).permitAll()
 
+                        // Administração -> somente admin
+                        .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+
+                        // Actuator: health público, métricas somente admin
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                        // Exportação de reservas -> admin/organizer
+                        .requestMatchers(HttpMethod.GET, "/api/v1/reservations/export")
+                        .hasAnyRole("ADMIN", "ORGANIZER")
+
+                        // Check-in na portaria -> admin/organizer
+                        .requestMatchers(HttpMethod.POST, "/api/v1/reservations/ticket/*/check-in")
+                        .hasAnyRole("ADMIN", "ORGANIZER")
+
                         // Reservas -> criar exige auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/reservations")
                         .hasAnyRole("USER", "ADMIN", "ORGANIZER")
@@ -0,0 +1,52 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-node mode: a transaction-scoped Postgres advisory lock keyed by the
+ * session id. Every instance sharing the database serializes bookings of the
+ * same session, while the {@code sessions} row stays free for catalog reads.
+ * Postgres releases the lock on commit or rollback.
+ */
+@Component
+@ConditionalOnProperty(name = "reservations.lock.mode", havingValue = "advisory")
+public class AdvisoryReservationLock implements ReservationLock {
+
+    private final JdbcTemplate jdbc;
+    private final Timer waitTimer;
+    private final Counter contended;
+
+    public AdvisoryReservationLock(JdbcTemplate jdbc, MeterRegistry registry) {
+        this.jdbc = jdbc;
+        this.waitTimer = Timer.builder("reservations.lock.wait")
+                .description("Time spent acquiring the per-session reservation lock")
+                .tag("mode", "advisory")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.contended = Counter.builder("reservations.lock.contended")
+                .description("Lock acquisitions that had to wait for another transaction")
+                .tag("mode", "advisory")
+                .register(registry);
+    }
+
+    @Override
+    public void acquire(Long sessionId) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Reservation lock requires an active transaction");
+        }
+        long start = System.nanoTime();
+        if (!Boolean.TRUE.equals(jdbc.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, sessionId))) {
+            contended.increment();
+            jdbc.queryForList("select pg_advisory_xact_lock(?)", sessionId);
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,195 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.AvailabilityResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.SubscriberLimitExceededException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes seat availability over SSE. Changes are only marked dirty when they
+ * commit; every {@code interval-ms} the dirty sessions are read with one query
+ * and fanned out, so a subscriber receives at most one update per session per
+ * interval. Each subscriber keeps only the latest pending update per session.
+ * Writes run on virtual threads, at most one per subscriber, so a client that
+ * stops reading blocks only its own writer; once a write has been stuck for
+ * {@code send-timeout-ms} the subscriber is dropped and its stream completed.
+ */
+@Service
+public class AvailabilityStreamService {
+
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final ReservationService reservationService;
+    private final long emitterTimeoutMillis;
+    private final int maxSessionsPerSubscriber;
+    private final int maxSubscribers;
+    private final long sendTimeoutNanos;
+
+    private final Map<Long, Set<Subscriber>> subscribersBySession = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+
+    public AvailabilityStreamService(
+            ReservationService reservationService,
+            @Value("${reservations.availability.stream.timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${reservations.availability.stream.max-sessions:50}") int maxSessionsPerSubscriber,
+            @Value("${reservations.availability.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${reservations.availability.stream.send-timeout-ms:5000}") long sendTimeoutMillis
+    ) {
+        this.reservationService = reservationService;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxSessionsPerSubscriber = maxSessionsPerSubscriber;
+        this.maxSubscribers = maxSubscribers;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("availability-sse-", 0).factory());
+    }
+
+    public SseEmitter subscribe(List<Long> sessionIds) {
+        return register(new SseEmitter(emitterTimeoutMillis), sessionIds);
+    }
+
+    SseEmitter register(SseEmitter emitter, List<Long> sessionIds) {
+        Set<Long> ids = new LinkedHashSet<>(sessionIds);
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one session is required");
+        }
+        if (ids.size() > maxSessionsPerSubscriber) {
+            throw new IllegalArgumentException("Too many sessions. Max: " + maxSessionsPerSubscriber);
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw new SubscriberLimitExceededException("Too many availability subscribers", RETRY_AFTER_SECONDS);
+        }
+
+        List<AvailabilityResponse> initial = reservationService.availability(List.copyOf(ids));
+
+        Subscriber sub = new Subscriber(emitter, ids);
+        subscribers.add(sub);
+        for (Long id : ids) {
+            subscribersBySession.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet()).add(sub);
+        }
+        emitter.onCompletion(() -> unsubscribe(sub));
+        emitter.onTimeout(() -> unsubscribe(sub));
+        emitter.onError(ex -> unsubscribe(sub));
+
+        initial.forEach(sub::offer);
+        schedule(sub);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onSeatsChanged(SeatsChangedEvent event) {
+        if (subscribersBySession.containsKey(event.sessionId())) {
+            dirty.add(event.sessionId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservations.availability.stream.interval-ms:1000}")
+    public void flush() {
+        dropStalled();
+        if (dirty.isEmpty()) return;
+
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        for (AvailabilityResponse a : reservationService.availabilitySnapshot(ids)) {
+            Set<Subscriber> subs = subscribersBySession.get(a.sessionId());
+            if (subs == null) continue;
+            for (Subscriber sub : subs) {
+                sub.offer(a);
+                schedule(sub);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void schedule(Subscriber sub) {
+        if (sub.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(sub));
+        }
+    }
+
+    private void drain(Subscriber sub) {
+        try {
+            while (true) {
+                Iterator<Map.Entry<Long, AvailabilityResponse>> it = sub.pending.entrySet().iterator();
+                if (!it.hasNext()) break;
+                AvailabilityResponse a = it.next().getValue();
+                it.remove();
+                sub.sendStartedNanos = System.nanoTime();
+                sub.emitter.send(SseEmitter.event().name("availability").data(a));
+                sub.sendStartedNanos = 0;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            unsubscribe(sub);
+            return;
+        } finally {
+            sub.sendStartedNanos = 0;
+            sub.sending.set(false);
+        }
+        if (!sub.pending.isEmpty()) schedule(sub);
+    }
+
+    private void dropStalled() {
+        long now = System.nanoTime();
+        for (Subscriber sub : subscribers) {
+            long started = sub.sendStartedNanos;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                unsubscribe(sub);
+                sub.emitter.complete();
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber sub) {
+        if (!subscribers.remove(sub)) return;
+        for (Long id : sub.sessionIds) {
+            subscribersBySession.computeIfPresent(id, (k, set) -> {
+                set.remove(sub);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        sub.pending.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final Set<Long> sessionIds;
+        final Map<Long, AvailabilityResponse> pending = new ConcurrentHashMap<>();
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long sendStartedNanos;
+
+        Subscriber(SseEmitter emitter, Set<Long> sessionIds) {
+            this.emitter = emitter;
+            this.sessionIds = sessionIds;
+        }
+
+        void offer(AvailabilityResponse a) {
+            pending.put(a.sessionId(), a);
+        }
+    }
+}
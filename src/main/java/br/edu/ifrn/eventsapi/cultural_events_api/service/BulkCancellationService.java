@@ -0,0 +1,133 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.BulkCancelResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Cancels every seat-holding reservation of a session or event with one
+ * {@code UPDATE ... RETURNING}. The session counters are decremented in the same
+ * transaction. Row locks taken by the statement serialize it against single
+ * cancels, so no seat is released twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkCancellationService {
+
+    private static final String STATUSES = String.join(", ",
+            Collections.nCopies(ReservationStatus.HOLDING_SEATS.size(), "?"));
+
+    private static final String CANCEL_BY_SESSION = """
+            with target as (
+                select r.id, r.status
+                from reservations r
+                where r.session_id = ? and r.status in (%s)
+                for update
+            )
+            update reservations r
+            set status = 'CANCELED', expires_at = null
+            from target t
+            where r.id = t.id
+            returning r.id, r.session_id, r.code, r.customer_email, r.quantity, t.status as previous_status
+            """.formatted(STATUSES);
+
+    private static final String CANCEL_BY_EVENT = """
+            with target as (
+                select r.id, r.status
+                from reservations r
+                join sessions s on s.id = r.session_id
+                where s.event_id = ? and r.status in (%s)
+                for update of r
+            )
+            update reservations r
+            set status = 'CANCELED', expires_at = null
+            from target t
+            where r.id = t.id
+            returning r.id, r.session_id, r.code, r.customer_email, r.quantity, t.status as previous_status
+            """.formatted(STATUSES);
+
+    private final JdbcTemplate jdbc;
+    private final SessionRepository sessionRepository;
+    private final EventRepository eventRepository;
+    private final ReservationLock reservationLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationJournal journal;
+    private final CustomerTicketCountRepository customerTicketCountRepository;
+
+    @Transactional
+    public BulkCancelResponse cancel(Long sessionId, Long eventId) {
+        if ((sessionId == null) == (eventId == null)) {
+            throw new IllegalArgumentException("Exactly one of sessionId or eventId is required");
+        }
+
+        List<Long> sessionIds;
+        if (sessionId != null) {
+            if (!sessionRepository.existsById(sessionId)) {
+                throw new EntityNotFoundException("Session not found: " + sessionId);
+            }
+            sessionIds = List.of(sessionId);
+        } else {
+            if (!eventRepository.existsById(eventId)) {
+                throw new EntityNotFoundException("Event not found: " + eventId);
+            }
+            sessionIds = sessionRepository.findIdsByEventId(eventId);
+        }
+        reservationLock.acquireAll(sessionIds);
+
+        List<Object> args = new ArrayList<>();
+        args.add(sessionId != null ? sessionId : eventId);
+        ReservationStatus.HOLDING_SEATS.forEach(s -> args.add(s.name()));
+
+        List<CanceledRow> rows = jdbc.query(sessionId != null ? CANCEL_BY_SESSION : CANCEL_BY_EVENT,
+                (rs, i) -> new CanceledRow(
+                        rs.getLong("id"),
+                        rs.getLong("session_id"),
+                        rs.getObject("code", UUID.class),
+                        rs.getString("customer_email"),
+                        rs.getInt("quantity"),
+                        ReservationStatus.valueOf(rs.getString("previous_status"))),
+                args.toArray());
+
+        Map<Long, Integer> released = new TreeMap<>();
+        Map<Long, Map<String, Integer>> releasedTickets = new TreeMap<>();
+        for (CanceledRow row : rows) {
+            released.merge(row.sessionId(), row.quantity(), Integer::sum);
+            releasedTickets.computeIfAbsent(row.sessionId(), k -> new TreeMap<>())
+                    .merge(row.customerEmail().toLowerCase(Locale.ROOT), row.quantity(), Integer::sum);
+            journal.record(ReservationJournal.Type.CANCELED, row.id(), row.sessionId(), row.quantity(), row.code());
+            if (row.previousStatus() == ReservationStatus.HELD) {
+                eventPublisher.publishEvent(new HoldReleasedEvent(row.id()));
+            }
+        }
+        released.forEach((id, quantity) -> {
+            if (sessionRepository.releaseSeats(id, quantity) == 0) {
+                log.warn("Seat counter of session {} is below the {} seats being released; run the seat-inventory backfill", id, quantity);
+            }
+            eventPublisher.publishEvent(new SeatsChangedEvent(id));
+        });
+        releasedTickets.forEach((id, byEmail) -> byEmail.forEach((email, quantity) ->
+                customerTicketCountRepository.releaseTickets(id, email, quantity)));
+
+        List<UUID> codes = rows.stream().map(CanceledRow::code).toList();
+        if (!codes.isEmpty()) {
+            eventPublisher.publishEvent(new ReservationsCanceledEvent(codes));
+        }
+
+        long seats = released.values().stream().mapToLong(Integer::longValue).sum();
+        return new BulkCancelResponse(rows.size(), seats, codes);
+    }
+
+    record CanceledRow(Long id, Long sessionId, UUID code, String customerEmail, int quantity, ReservationStatus previousStatus) {}
+}
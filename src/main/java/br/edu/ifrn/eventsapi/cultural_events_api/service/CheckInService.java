@@ -0,0 +1,133 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.CheckInResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.ConflictException;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.ConcurrentBitSet;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+/**
+ * Door check-in. Duplicate scans are detected in a per-session bitmap indexed by
+ * reservation id; the first scan wins the bit. Check-in times are written to
+ * {@code reservations.checked_in_at} in background batches, and the bitmaps
+ * are rebuilt from that column before the application starts serving.
+ */
+@Slf4j
+@Service
+public class CheckInService {
+
+    private static final String PERSIST = "update reservations set checked_in_at = ? where id = ? and checked_in_at is null";
+
+    private final ReservationService reservationService;
+    private final JdbcTemplate jdbc;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, ConcurrentBitSet> bitmaps = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingCheckIn> pending = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService flusher;
+
+    public CheckInService(
+            ReservationService reservationService,
+            JdbcTemplate jdbc,
+            @Value("${reservations.check-in.flush-ms:200}") long flushMillis,
+            @Value("${reservations.check-in.batch-size:500}") int batchSize
+    ) {
+        this.reservationService = reservationService;
+        this.jdbc = jdbc;
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "check-in-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PostConstruct
+    void rebuild() {
+        int[] count = {0};
+        jdbc.query("select id, session_id from reservations where checked_in_at is not null", rs -> {
+            bitmap(rs.getLong("session_id")).set(rs.getLong("id"));
+            count[0]++;
+        });
+        if (count[0] > 0) {
+            log.info("Rebuilt check-in bitmaps with {} check-ins", count[0]);
+        }
+    }
+
+    public CheckInResponse checkIn(UUID code) {
+        ReservationResponse r = reservationService.currentTicket(code);
+        if (r.status() != ReservationStatus.ACTIVE) {
+            throw new ConflictException("Reservation is not active: " + r.status());
+        }
+        if (!bitmap(r.sessionId()).set(r.id())) {
+            throw new ConflictException("Ticket already checked in: " + code);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pending.add(new PendingCheckIn(r.id(), now));
+        return new CheckInResponse(r.id(), r.sessionId(), r.code(), r.customerName(), r.quantity(), now);
+    }
+
+    public boolean isCheckedIn(Long sessionId, Long reservationId) {
+        ConcurrentBitSet bits = bitmaps.get(sessionId);
+        return bits != null && bits.get(reservationId);
+    }
+
+    public int pendingWrites() {
+        return pending.size();
+    }
+
+    void flush() {
+        List<PendingCheckIn> batch = new ArrayList<>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbc.batchUpdate(PERSIST, batch.stream()
+                        .map(p -> new Object[]{Timestamp.valueOf(p.checkedInAt()), p.reservationId()})
+                        .toList());
+            } catch (RuntimeException ex) {
+                pending.addAll(batch);
+                throw ex;
+            }
+            batch.clear();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to persist {} check-ins, will retry", pending.size(), ex);
+        }
+    }
+
+    private ConcurrentBitSet bitmap(Long sessionId) {
+        return bitmaps.computeIfAbsent(sessionId, k -> new ConcurrentBitSet());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    record PendingCheckIn(Long reservationId, LocalDateTime checkedInAt) {}
+}
@@ -4,10 +4,15 @@ import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.EventCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.EventResponse;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.Event;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.CacheLists;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,8 +22,9 @@ import java.util.List;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final CacheManager cacheManager;
 
-    @CacheEvict(cacheNames = {"events_list", "events_by_id"}, allEntries = true)
+    @CachePut(cacheNames = "events_by_id", key = "#result.id")
     public EventResponse create(EventCreateRequest req) {
         Event e = Event.builder()
                 .title(req.title())
@@ -26,24 +32,25 @@ public class EventService {
                 .category(req.category())
                 .startDate(req.startDate())
                 .endDate(req.endDate())
+                .maxTicketsPerCustomer(req.maxTicketsPerCustomer())
                 .build();
         e = eventRepository.save(e);
-        return toResponse(e);
+        return cacheInList(toResponse(e));
     }
 
-    @Cacheable(cacheNames = "events_list")
+    @Cacheable(cacheNames = "events_list", sync = true)
     public List<EventResponse> list() {
         return eventRepository.findAll().stream().map(this::toResponse).toList();
     }
 
-    @Cacheable(cacheNames = "events_by_id", key = "#id")
+    @Cacheable(cacheNames = "events_by_id", key = "#id", sync = true)
     public EventResponse get(Long id) {
         Event e = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
         return toResponse(e);
     }
 
-    @CacheEvict(cacheNames = {"events_list", "events_by_id"}, allEntries = true)
+    @CachePut(cacheNames = "events_by_id", key = "#id")
     public EventResponse update(Long id, EventCreateRequest req) {
         Event e = eventRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
@@ -53,17 +60,22 @@ public class EventService {
         e.setCategory(req.category());
         e.setStartDate(req.startDate());
         e.setEndDate(req.endDate());
+        e.setMaxTicketsPerCustomer(req.maxTicketsPerCustomer());
 
         e = eventRepository.save(e);
-        return toResponse(e);
+        return cacheInList(toResponse(e));
     }
 
-    @CacheEvict(cacheNames = {"events_list", "events_by_id"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "events_by_id", key = "#id"),
+            @CacheEvict(cacheNames = "sessions_by_event", key = "#id")
+    })
     public void delete(Long id) {
         if (!eventRepository.existsById(id)) {
             throw new EntityNotFoundException("Event not found: " + id);
         }
         eventRepository.deleteById(id);
+        CacheLists.<EventResponse>remove(cacheManager, "events_list", SimpleKey.EMPTY, r -> r.id().equals(id));
     }
 
     public Event findEntity(Long id) {
@@ -71,6 +83,11 @@ public class EventService {
                 .orElseThrow(() -> new EntityNotFoundException("Event not found: " + id));
     }
 
+    private EventResponse cacheInList(EventResponse res) {
+        CacheLists.<EventResponse>upsert(cacheManager, "events_list", SimpleKey.EMPTY, res, r -> r.id().equals(res.id()));
+        return res;
+    }
+
     private EventResponse toResponse(Event e) {
         return new EventResponse(
                 e.getId(),
@@ -78,7 +95,8 @@ public class EventService {
                 e.getDescription(),
                 e.getCategory(),
                 e.getStartDate(),
-                e.getEndDate()
+                e.getEndDate(),
+                e.getMaxTicketsPerCustomer()
         );
     }
 }
@@ -0,0 +1,97 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.HeldReservation;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Expires seat holds from an in-memory timing wheel instead of polling the
+ * reservations table. Pending holds are reloaded once at startup.
+ */
+@Slf4j
+@Component
+public class HoldExpiryTimer {
+
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final ExecutorService expirer;
+    private final HashedTimingWheel wheel;
+    private final Map<Long, HashedTimingWheel.Timeout> timeouts = new ConcurrentHashMap<>();
+
+    public HoldExpiryTimer(
+            ReservationService reservationService,
+            ReservationRepository reservationRepository,
+            @Value("${reservations.holds.tick-ms:100}") long tickMillis,
+            @Value("${reservations.holds.wheel-size:512}") int wheelSize,
+            @Value("${reservations.holds.expiry-threads:2}") int expiryThreads
+    ) {
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.expirer = Executors.newFixedThreadPool(expiryThreads, r -> {
+            Thread t = new Thread(r, "hold-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+        this.wheel = new HashedTimingWheel(Duration.ofMillis(tickMillis), wheelSize, expirer, "hold-expiry-wheel");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadPendingHolds() {
+        var held = reservationRepository.findHeld();
+        for (HeldReservation h : held) {
+            schedule(h.getReservationId(), h.getExpiresAt());
+        }
+        if (!held.isEmpty()) {
+            log.info("Rescheduled {} pending seat holds", held.size());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onHoldPlaced(HoldPlacedEvent event) {
+        schedule(event.reservationId(), event.expiresAt());
+    }
+
+    @TransactionalEventListener
+    public void onHoldReleased(HoldReleasedEvent event) {
+        var timeout = timeouts.remove(event.reservationId());
+        if (timeout != null) timeout.cancel();
+    }
+
+    public int pendingHolds() {
+        return timeouts.size();
+    }
+
+    void schedule(Long reservationId, LocalDateTime expiresAt) {
+        Duration delay = Duration.between(LocalDateTime.now(), expiresAt);
+        timeouts.put(reservationId, wheel.schedule(() -> expire(reservationId), delay));
+    }
+
+    private void expire(Long reservationId) {
+        timeouts.remove(reservationId);
+        try {
+            reservationService.expireHold(reservationId);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to expire hold {}", reservationId, ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        wheel.close();
+        expirer.shutdown();
+    }
+}
@@ -0,0 +1,5 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import java.time.LocalDateTime;
+
+public record HoldPlacedEvent(Long reservationId, LocalDateTime expiresAt) {}
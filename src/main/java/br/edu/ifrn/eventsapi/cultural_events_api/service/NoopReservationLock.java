@@ -0,0 +1,13 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "reservations.lock.mode", havingValue = "none", matchIfMissing = true)
+public class NoopReservationLock implements ReservationLock {
+
+    @Override
+    public void acquire(Long sessionId) {
+    }
+}
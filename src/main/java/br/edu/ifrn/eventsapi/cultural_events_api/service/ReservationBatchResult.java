@@ -0,0 +1,20 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+
+public record ReservationBatchResult(
+        ReservationResponse reservation,
+        String rejection
+) {
+    public static ReservationBatchResult accepted(ReservationResponse reservation) {
+        return new ReservationBatchResult(reservation, null);
+    }
+
+    public static ReservationBatchResult rejected(String rejection) {
+        return new ReservationBatchResult(null, rejection);
+    }
+
+    public boolean isAccepted() {
+        return reservation != null;
+    }
+}
@@ -0,0 +1,174 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Group commit for hot sessions: concurrent create requests for the same session
+ * are collected for up to {@code window-ms} (or until {@code max-size} requests)
+ * and written by a single {@link ReservationService#createBatch} transaction.
+ * A caller that gives up waiting gets {@link OutcomeUnknownException}, since the
+ * batch may still commit its reservation. Requests sharing an idempotency key
+ * are written once; if the batch still hits the unique key (the key is
+ * already stored by another node), each request is retried on its own so
+ * only the duplicate fails.
+ */
+@Component
+public class ReservationBatcher {
+
+    private final ReservationService reservationService;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxSize;
+    private final long timeoutMillis;
+
+    private final ConcurrentHashMap<Long, Batch> batches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushers;
+
+    public ReservationBatcher(
+            ReservationService reservationService,
+            @Value("${reservations.batching.enabled:false}") boolean enabled,
+            @Value("${reservations.batching.window-ms:5}") long windowMillis,
+            @Value("${reservations.batching.max-size:64}") int maxSize,
+            @Value("${reservations.batching.flush-threads:4}") int flushThreads,
+            @Value("${reservations.batching.timeout-ms:5000}") long timeoutMillis
+    ) {
+        this.reservationService = reservationService;
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxSize = maxSize;
+        this.timeoutMillis = timeoutMillis;
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(daemon("reservation-batch-timer")) : null;
+        this.flushers = enabled ? Executors.newFixedThreadPool(flushThreads, daemon("reservation-batch-flush")) : null;
+    }
+
+    public ReservationResponse create(ReservationCreateRequest req) {
+        return create(req, null);
+    }
+
+    public ReservationResponse create(ReservationCreateRequest req, String idempotencyKey) {
+        if (!enabled) {
+            return reservationService.create(req, idempotencyKey);
+        }
+
+        Pending pending = new Pending(req, idempotencyKey, new CompletableFuture<>());
+        Batch[] full = new Batch[1];
+
+        batches.compute(req.sessionId(), (sessionId, batch) -> {
+            if (batch == null) {
+                batch = new Batch();
+                Batch scheduled = batch;
+                scheduler.schedule(() -> {
+                    if (batches.remove(sessionId, scheduled)) flushers.execute(() -> flush(sessionId, scheduled));
+                }, windowMillis, TimeUnit.MILLISECONDS);
+            }
+            batch.items.add(pending);
+            if (batch.items.size() >= maxSize) {
+                full[0] = batch;
+                return null;
+            }
+            return batch;
+        });
+
+        if (full[0] != null) {
+            Batch batch = full[0];
+            flushers.execute(() -> flush(req.sessionId(), batch));
+        }
+
+        return await(pending.result());
+    }
+
+    void flush(Long sessionId, Batch batch) {
+        List<Pending> items = withoutDuplicateKeys(batch.items);
+        List<ReservationCreateRequest> requests = items.stream().map(Pending::request).toList();
+        List<String> keys = items.stream().map(Pending::idempotencyKey).toList();
+        try {
+            List<ReservationBatchResult> results = reservationService.createBatch(sessionId, requests, keys);
+            for (int i = 0; i < results.size(); i++) {
+                ReservationBatchResult r = results.get(i);
+                CompletableFuture<ReservationResponse> future = items.get(i).result();
+                if (r.isAccepted()) future.complete(r.reservation());
+                else future.completeExceptionally(new IllegalArgumentException(r.rejection()));
+            }
+        } catch (DataIntegrityViolationException ex) {
+            items.forEach(this::createAlone);
+        } catch (RuntimeException ex) {
+            items.forEach(p -> p.result().completeExceptionally(ex));
+        }
+    }
+
+    /** Keeps the first request per idempotency key; later ones share its result. */
+    private static List<Pending> withoutDuplicateKeys(List<Pending> items) {
+        Map<String, Pending> firstByKey = new HashMap<>();
+        List<Pending> unique = new ArrayList<>(items.size());
+        for (Pending p : items) {
+            Pending first = p.idempotencyKey() == null ? null : firstByKey.putIfAbsent(p.idempotencyKey(), p);
+            if (first == null) {
+                unique.add(p);
+            } else {
+                first.result().whenComplete((res, ex) -> {
+                    if (ex != null) p.result().completeExceptionally(ex);
+                    else p.result().complete(res);
+                });
+            }
+        }
+        return unique;
+    }
+
+    private void createAlone(Pending p) {
+        try {
+            p.result().complete(reservationService.create(p.request(), p.idempotencyKey()));
+        } catch (RuntimeException ex) {
+            p.result().completeExceptionally(ex);
+        }
+    }
+
+    private ReservationResponse await(CompletableFuture<ReservationResponse> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new OutcomeUnknownException(
+                    "Reservation batch timed out and may still complete: retry with the same Idempotency-Key");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OutcomeUnknownException(
+                    "Interrupted while waiting for reservation batch, which may still complete");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) scheduler.shutdownNow();
+        if (flushers != null) flushers.shutdown();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    static final class Batch {
+        final List<Pending> items = new ArrayList<>();
+    }
+
+    record Pending(ReservationCreateRequest request, String idempotencyKey,
+                   CompletableFuture<ReservationResponse> result) {}
+}
@@ -0,0 +1,31 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.support.UuidV7;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Issues reservation codes. {@code v7} (default) codes are time ordered, so the
+ * unique index on {@code code} grows at its right edge instead of splitting
+ * random pages; {@code v4} keeps the old fully random codes. Both versions
+ * coexist in the same column and are looked up the same way.
+ */
+@Component
+public class ReservationCodeGenerator {
+
+    private final boolean timeOrdered;
+
+    public ReservationCodeGenerator(@Value("${reservations.code-format:v7}") String format) {
+        this.timeOrdered = switch (format.toLowerCase()) {
+            case "v7" -> true;
+            case "v4" -> false;
+            default -> throw new IllegalArgumentException("Unknown reservations.code-format: " + format);
+        };
+    }
+
+    public UUID next() {
+        return timeOrdered ? UuidV7.randomUuid() : UUID.randomUUID();
+    }
+}
@@ -0,0 +1,186 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Streams reservations of a session or event straight from a JDBC cursor to the
+ * response. Rows are read {@code fetch-size} at a time inside a read-only
+ * transaction (Postgres only uses a server-side cursor when autocommit is off)
+ * and mapped to DTOs directly, without touching the persistence context, so
+ * memory stays flat regardless of the export size.
+ */
+@Service
+public class ReservationExportService {
+
+    public enum Format {
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+        CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final String COLUMNS = """
+            select r.id, r.session_id, r.customer_name, r.customer_email, r.quantity,
+                   r.status, r.code, r.created_at, r.expires_at
+            from reservations r
+            """;
+
+    private static final String CSV_HEADER =
+            "id,session_id,customer_name,customer_email,quantity,status,code,created_at,expires_at";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final ObjectMapper objectMapper;
+    private final SessionRepository sessionRepository;
+    private final EventRepository eventRepository;
+
+    public ReservationExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            SessionRepository sessionRepository,
+            EventRepository eventRepository,
+            @Value("${reservations.export.fetch-size:1000}") int fetchSize
+    ) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.jdbc.setFetchSize(fetchSize);
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.sessionRepository = sessionRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    public Format validate(Long sessionId, Long eventId, String format) {
+        if ((sessionId == null) == (eventId == null)) {
+            throw new IllegalArgumentException("Exactly one of sessionId or eventId is required");
+        }
+        if (sessionId != null && !sessionRepository.existsById(sessionId)) {
+            throw new EntityNotFoundException("Session not found: " + sessionId);
+        }
+        if (eventId != null && !eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found: " + eventId);
+        }
+        try {
+            return Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown export format: " + format);
+        }
+    }
+
+    public void write(Long sessionId, Long eventId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator json = format == Format.NDJSON
+                ? objectMapper.createGenerator(writer).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                : null;
+
+        String sql = sessionId != null
+                ? COLUMNS + "where r.session_id = ? order by r.id"
+                : COLUMNS + "join sessions s on s.id = r.session_id where s.event_id = ? order by r.id";
+        Long filter = sessionId != null ? sessionId : eventId;
+
+        if (format == Format.CSV) writer.write(CSV_HEADER + "\n");
+        try {
+            tx.executeWithoutResult(status -> jdbc.query(sql, rs -> {
+                ReservationResponse row = map(rs);
+                try {
+                    if (json != null) {
+                        json.writeObject(row);
+                        json.writeRaw('\n');
+                    } else {
+                        writeCsv(writer, row);
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }, filter));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        if (json != null) json.flush();
+        writer.flush();
+    }
+
+    private ReservationResponse map(ResultSet rs) throws SQLException {
+        return new ReservationResponse(
+                rs.getLong("id"),
+                rs.getLong("session_id"),
+                rs.getString("customer_name"),
+                rs.getString("customer_email"),
+                rs.getInt("quantity"),
+                ReservationStatus.valueOf(rs.getString("status")),
+                rs.getObject("code", UUID.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("expires_at", LocalDateTime.class)
+        );
+    }
+
+    private void writeCsv(Writer w, ReservationResponse r) throws IOException {
+        w.write(String.valueOf(r.id()));
+        w.write(',');
+        w.write(String.valueOf(r.sessionId()));
+        w.write(',');
+        w.write(csv(r.customerName()));
+        w.write(',');
+        w.write(csv(r.customerEmail()));
+        w.write(',');
+        w.write(String.valueOf(r.quantity()));
+        w.write(',');
+        w.write(r.status().name());
+        w.write(',');
+        w.write(r.code().toString());
+        w.write(',');
+        w.write(String.valueOf(r.createdAt()));
+        w.write(',');
+        if (r.expiresAt() != null) w.write(r.expiresAt().toString());
+        w.write('\n');
+    }
+
+    /** Quotes per RFC 4180 and defuses spreadsheet formulas in free-text fields. */
+    static String csv(String value) {
+        if (value == null) return "";
+        String v = value;
+        if (!v.isEmpty() && "=+-@\t\r".indexOf(v.charAt(0)) >= 0) {
+            v = "'" + v;
+        }
+        if (v.indexOf(',') >= 0 || v.indexOf('"') >= 0 || v.indexOf('\n') >= 0 || v.indexOf('\r') >= 0) {
+            return '"' + v.replace("\"", "\"\"") + '"';
+        }
+        return v;
+    }
+}
@@ -0,0 +1,190 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Honours the {@code Idempotency-Key} header on reservation creates. Keys are
+ * scoped to the authenticated principal, so two callers picking the same key
+ * never see each other's requests. The first result per key is kept in a
+ * bounded in-memory map that evicts by TTL and insertion order; concurrent
+ * duplicates wait on the in-flight future. The scoped key is also stored in a
+ * unique column, which answers retries after eviction or from another node.
+ */
+@Service
+public class ReservationIdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final ReservationBatcher reservationBatcher;
+    private final ReservationService reservationService;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long waitTimeoutMillis;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public ReservationIdempotencyService(
+            ReservationBatcher reservationBatcher,
+            ReservationService reservationService,
+            @Value("${reservations.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${reservations.idempotency.max-entries:100000}") int maxEntries,
+            @Value("${reservations.idempotency.wait-timeout-ms:5000}") long waitTimeoutMillis
+    ) {
+        this.reservationBatcher = reservationBatcher;
+        this.reservationService = reservationService;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    public ReservationResponse create(ReservationCreateRequest req, String principal, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return reservationBatcher.create(req);
+        }
+        String key = scopedKey(principal, validated(idempotencyKey));
+
+        long now = System.nanoTime();
+        Entry mine = new Entry(key, now + ttlNanos);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, mine);
+            if (existing == null) break;
+            if (!existing.isExpired(now)) return matching(req, await(existing.result));
+            entries.remove(key, existing);
+        }
+        insertionOrder.add(mine);
+        evict(now);
+
+        try {
+            ReservationResponse res = reservationService.findByIdempotencyKey(key)
+                    .orElseGet(() -> createOrFind(req, key));
+            mine.result.complete(res);
+            return matching(req, res);
+        } catch (RuntimeException ex) {
+            entries.remove(key, mine);
+            mine.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Answers a retry of a request already made with this key without creating
+     * anything: the stored result, or the in-flight one once it completes.
+     * Empty when the key is new or its first attempt failed.
+     */
+    public Optional<ReservationResponse> replay(ReservationCreateRequest req, String principal, String idempotencyKey) {
+        if (idempotencyKey == null) return Optional.empty();
+        String key = scopedKey(principal, validated(idempotencyKey));
+
+        Entry existing = entries.get(key);
+        if (existing != null && !existing.isExpired(System.nanoTime())) {
+            ReservationResponse res;
+            try {
+                res = await(existing.result);
+            } catch (OutcomeUnknownException ex) {
+                throw ex;
+            } catch (RuntimeException ex) {
+                return Optional.empty();
+            }
+            return Optional.of(matching(req, res));
+        }
+        return reservationService.findByIdempotencyKey(key).map(res -> matching(req, res));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String validated(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Invalid Idempotency-Key");
+        }
+        return idempotencyKey;
+    }
+
+    /** The caller's key namespaced by principal, hashed to fit the idempotency_key column. */
+    static String scopedKey(String principal, String idempotencyKey) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            sha.update(String.valueOf(principal).getBytes(StandardCharsets.UTF_8));
+            sha.update((byte) 0);
+            sha.update(idempotencyKey.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(sha.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private ReservationResponse createOrFind(ReservationCreateRequest req, String idempotencyKey) {
+        try {
+            return reservationBatcher.create(req, idempotencyKey);
+        } catch (DataIntegrityViolationException ex) {
+            Optional<ReservationResponse> stored = reservationService.findByIdempotencyKey(idempotencyKey);
+            if (stored.isPresent()) return stored.get();
+            throw ex;
+        }
+    }
+
+    private ReservationResponse matching(ReservationCreateRequest req, ReservationResponse res) {
+        if (!res.sessionId().equals(req.sessionId())
+                || !res.quantity().equals(req.quantity())
+                || !res.customerEmail().equalsIgnoreCase(req.customerEmail())) {
+            throw new IllegalArgumentException("Idempotency-Key already used for a different request");
+        }
+        return res;
+    }
+
+    private void evict(long now) {
+        Entry head;
+        while ((head = insertionOrder.peek()) != null) {
+            boolean stale = entries.get(head.key) != head;
+            if (!stale && !head.isExpired(now) && entries.size() <= maxEntries) break;
+            if (insertionOrder.remove(head)) {
+                entries.remove(head.key, head);
+            }
+        }
+    }
+
+    private ReservationResponse await(CompletableFuture<ReservationResponse> future) {
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new OutcomeUnknownException(
+                    "Request with the same Idempotency-Key is still in flight: retry with the same key");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new OutcomeUnknownException("Interrupted while waiting for in-flight request with the same Idempotency-Key");
+        }
+    }
+
+    private static final class Entry {
+        final String key;
+        final long expiresAtNanos;
+        final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+
+        Entry(String key, long expiresAtNanos) {
+            this.key = key;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.support.MappedJournal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Audit trail of reservation state changes in a {@link MappedJournal}. Each
+ * change is a fixed 45-byte record, appended after its transaction commits,
+ * so the journal holds only committed changes. Replaying it rebuilds the
+ * per-session seat counters without reading the reservations table.
+ */
+@Slf4j
+@Component
+public class ReservationJournal {
+
+    public enum Type {
+        CREATED, HELD, CONFIRMED, CANCELED, EXPIRED;
+
+        long seatDelta(int quantity) {
+            return switch (this) {
+                case CREATED, HELD -> quantity;
+                case CONFIRMED -> 0;
+                case CANCELED, EXPIRED -> -quantity;
+            };
+        }
+    }
+
+    static final int RECORD_SIZE = 1 + 8 + 8 + 8 + 4 + 16;
+
+    private static final Type[] TYPES = Type.values();
+
+    private final Path dir;
+    private final MappedJournal journal;
+
+    public ReservationJournal(
+            @Value("${reservations.journal.enabled:false}") boolean enabled,
+            @Value("${reservations.journal.dir:data/journal}") String dir,
+            @Value("${reservations.journal.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${reservations.journal.fsync:INTERVAL}") MappedJournal.FsyncPolicy fsync,
+            @Value("${reservations.journal.fsync-interval-ms:1000}") long fsyncIntervalMillis
+    ) throws IOException {
+        this.dir = Path.of(dir);
+        this.journal = enabled
+                ? new MappedJournal(this.dir, segmentSizeMb << 20, fsync, Duration.ofMillis(fsyncIntervalMillis))
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return journal != null;
+    }
+
+    public void record(Type type, Long reservationId, Long sessionId, int quantity, UUID code) {
+        if (journal == null) return;
+
+        ByteBuffer buf = ByteBuffer.allocate(RECORD_SIZE)
+                .put((byte) type.ordinal())
+                .putLong(System.currentTimeMillis())
+                .putLong(reservationId)
+                .putLong(sessionId)
+                .putInt(quantity)
+                .putLong(code.getMostSignificantBits())
+                .putLong(code.getLeastSignificantBits())
+                .flip();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    append(buf);
+                }
+            });
+        } else {
+            append(buf);
+        }
+    }
+
+    /** Seats held per session according to the journal. */
+    public Map<Long, Long> replaySeatCounts() {
+        if (journal == null) {
+            throw new IllegalArgumentException("Reservation journal is disabled");
+        }
+        return replaySeatCounts(dir);
+    }
+
+    static Map<Long, Long> replaySeatCounts(Path dir) {
+        Map<Long, Long> seats = new TreeMap<>();
+        try {
+            MappedJournal.replay(dir, buf -> {
+                Type type = TYPES[buf.get()];
+                buf.getLong();
+                buf.getLong();
+                long sessionId = buf.getLong();
+                seats.merge(sessionId, type.seatDelta(buf.getInt()), Long::sum);
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return seats;
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (journal != null) journal.close();
+    }
+
+    private void append(ByteBuffer buf) {
+        try {
+            journal.append(buf);
+        } catch (RuntimeException ex) {
+            log.warn("Could not append to the reservation journal", ex);
+        }
+    }
+}
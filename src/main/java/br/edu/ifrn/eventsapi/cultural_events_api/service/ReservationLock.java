@@ -0,0 +1,20 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import java.util.Collection;
+
+/**
+ * Serializes bookings of the same session. The lock is held until the
+ * surrounding transaction completes, so it must be acquired inside one.
+ */
+public interface ReservationLock {
+
+    void acquire(Long sessionId);
+
+    /**
+     * Locks several sessions in one global order, so two transactions that
+     * lock overlapping sets can never wait on each other in a cycle.
+     */
+    default void acquireAll(Collection<Long> sessionIds) {
+        sessionIds.stream().distinct().sorted().forEach(this::acquire);
+    }
+}
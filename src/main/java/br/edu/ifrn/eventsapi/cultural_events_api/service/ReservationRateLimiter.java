@@ -0,0 +1,71 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.RateLimitExceededException;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles reservation creation per authenticated principal and per
+ * {@code customerEmail}, before any database work. A request refused by the
+ * email bucket gives the principal's token back. Buckets live in a bounded
+ * Caffeine map, so lookups take no shared lock and each bucket is updated
+ * with its own CAS. A key idle for the time a bucket takes to refill expires,
+ * which loses nothing since a new bucket starts full; size eviction may reset
+ * a busier key early.
+ */
+@Component
+public class ReservationRateLimiter {
+
+    private final boolean enabled;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final Cache<String, TokenBucket> buckets;
+
+    public ReservationRateLimiter(
+            @Value("${reservations.rate-limit.enabled:true}") boolean enabled,
+            @Value("${reservations.rate-limit.capacity:10}") int capacity,
+            @Value("${reservations.rate-limit.refill-per-second:1}") double refillPerSecond,
+            @Value("${reservations.rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos((long) (capacity * 1_000_000_000L / refillPerSecond)))
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public void check(String principal, String customerEmail) {
+        if (!enabled) return;
+
+        long now = System.nanoTime();
+        TokenBucket own = principal == null ? null : bucket("principal:" + principal, now);
+        long wait = own == null ? 0 : own.tryAcquire(now);
+        if (wait == 0 && customerEmail != null) {
+            wait = bucket("email:" + customerEmail.toLowerCase(Locale.ROOT), now).tryAcquire(now);
+            if (wait > 0 && own != null) own.release(now);
+        }
+        if (wait > 0) {
+            long seconds = Math.max(1, (wait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            throw new RateLimitExceededException("Too many reservation requests. Retry in " + seconds + "s", seconds);
+        }
+    }
+
+    long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private TokenBucket bucket(String key, long now) {
+        return buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+    }
+}
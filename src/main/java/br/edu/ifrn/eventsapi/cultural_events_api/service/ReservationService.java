@@ -1,16 +1,35 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.service;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartCheckoutRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartLineRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.AvailabilityResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationPage;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionSeats;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
@@ -18,36 +37,257 @@ import java.util.UUID;
 public class ReservationService {
 
     private final ReservationRepository reservationRepository;
+    private final SessionRepository sessionRepository;
     private final SessionService sessionService;
+    private final ReservationLock reservationLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TicketCodeIndex ticketCodeIndex;
+    private final ReservationCodeGenerator codeGenerator;
+    private final ReservationJournal journal;
+    private final CustomerTicketCountRepository customerTicketCountRepository;
+
+    @Value("${reservations.holds.ttl:PT10M}")
+    private Duration holdTtl;
+
+    @Value("${reservations.availability.max-sessions:500}")
+    private int maxAvailabilitySessions;
+
+    @Value("${reservations.cart.max-lines:20}")
+    private int maxCartLines;
+
+    @Value("${reservations.list.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${reservations.list.max-page-size:200}")
+    private int maxPageSize;
 
     @Transactional
     public ReservationResponse create(ReservationCreateRequest req) {
+        return create(req, null);
+    }
+
+    @Transactional
+    public ReservationResponse create(ReservationCreateRequest req, String idempotencyKey) {
+        reservationLock.acquire(req.sessionId());
         Session session = sessionService.findEntity(req.sessionId());
+        reserveSeats(session.getId(), req.quantity());
+        reserveTickets(session.getId(), req);
 
-        int capacity = session.getVenue().getCapacity();
-        long reserved = reservationRepository.sumQuantityBySessionAndStatus(session.getId(), ReservationStatus.ACTIVE);
-        long available = capacity - reserved;
+        Reservation r = reservationRepository.save(newReservation(session, req, idempotencyKey));
+        journal(ReservationJournal.Type.CREATED, r);
+        return toResponse(r);
+    }
+
+    @Transactional
+    public ReservationResponse hold(ReservationCreateRequest req) {
+        reservationLock.acquire(req.sessionId());
+        Session session = sessionService.findEntity(req.sessionId());
+        reserveSeats(session.getId(), req.quantity());
+        reserveTickets(session.getId(), req);
+
+        Reservation r = newReservation(session, req, null);
+        r.setStatus(ReservationStatus.HELD);
+        r.setExpiresAt(LocalDateTime.now().plus(holdTtl));
+        r = reservationRepository.save(r);
+        journal(ReservationJournal.Type.HELD, r);
+
+        eventPublisher.publishEvent(new HoldPlacedEvent(r.getId(), r.getExpiresAt()));
+        return toResponse(r);
+    }
 
-        if (req.quantity() > available) {
-            throw new IllegalArgumentException("Not enough seats. Available: " + available);
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public ReservationResponse confirm(Long id) {
+        Reservation r = reservationRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + id));
+        if (r.getStatus() != ReservationStatus.HELD) {
+            throw new IllegalArgumentException("Reservation is not held: " + id);
+        }
+        if (r.getExpiresAt().isBefore(LocalDateTime.now())) {
+            release(r, ReservationJournal.Type.EXPIRED);
+            reservationRepository.save(r);
+            throw new IllegalArgumentException("Hold expired: " + id);
         }
 
-        Reservation r = new Reservation();
-        r.setSession(session);
-        r.setCustomerName(req.customerName());
-        r.setCustomerEmail(req.customerEmail());
-        r.setQuantity(req.quantity());
         r.setStatus(ReservationStatus.ACTIVE);
-
+        r.setExpiresAt(null);
         r = reservationRepository.save(r);
+        journal(ReservationJournal.Type.CONFIRMED, r);
+        eventPublisher.publishEvent(new HoldReleasedEvent(r.getId()));
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(r.getId(), r.getCode()));
         return toResponse(r);
     }
 
-    public List<ReservationResponse> list(String email) {
-        if (email != null && !email.isBlank()) {
-            return reservationRepository.findByCustomerEmail(email).stream().map(this::toResponse).toList();
+    @Transactional
+    public void expireHold(Long id) {
+        reservationRepository.findByIdForUpdate(id)
+                .filter(r -> r.getStatus() == ReservationStatus.HELD)
+                .ifPresent(r -> {
+                    release(r, ReservationJournal.Type.EXPIRED);
+                    reservationRepository.save(r);
+                });
+    }
+
+    @Transactional
+    public List<ReservationBatchResult> createBatch(Long sessionId, List<ReservationCreateRequest> reqs) {
+        return createBatch(sessionId, reqs, Collections.nCopies(reqs.size(), null));
+    }
+
+    @Transactional
+    public List<ReservationBatchResult> createBatch(Long sessionId, List<ReservationCreateRequest> reqs,
+                                                    List<String> idempotencyKeys) {
+        reservationLock.acquire(sessionId);
+        Session session = sessionService.findEntity(sessionId);
+        long available = toAvailability(seats(sessionId)).available();
+
+        List<ReservationBatchResult> results = new ArrayList<>(reqs.size());
+        List<Integer> candidates = new ArrayList<>();
+        int total = 0;
+
+        for (int i = 0; i < reqs.size(); i++) {
+            ReservationCreateRequest req = reqs.get(i);
+            if (req.quantity() > available - total) {
+                results.add(ReservationBatchResult.rejected("Not enough seats. Available: " + (available - total)));
+            } else {
+                total += req.quantity();
+                candidates.add(i);
+                results.add(null);
+            }
+        }
+
+        if (total > 0 && sessionRepository.tryReserveSeats(sessionId, total) == 0) {
+            return createOneByOne(session, reqs, idempotencyKeys);
+        }
+
+        List<Reservation> accepted = new ArrayList<>();
+        List<Integer> acceptedIdx = new ArrayList<>();
+        int refused = 0;
+        for (int i : candidates) {
+            ReservationCreateRequest req = reqs.get(i);
+            if (customerTicketCountRepository.tryAddTickets(sessionId, req.customerEmail(), req.quantity()) == 0) {
+                results.set(i, ReservationBatchResult.rejected(ticketLimitMessage(sessionId)));
+                refused += req.quantity();
+            } else {
+                accepted.add(newReservation(session, req, idempotencyKeys.get(i)));
+                acceptedIdx.add(i);
+            }
+        }
+        if (refused > 0) {
+            sessionRepository.releaseSeats(sessionId, refused);
+        }
+        if (total > refused) {
+            eventPublisher.publishEvent(new SeatsChangedEvent(sessionId));
+        }
+
+        List<Reservation> saved = reservationRepository.saveAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            journal(ReservationJournal.Type.CREATED, saved.get(i));
+            results.set(acceptedIdx.get(i), ReservationBatchResult.accepted(toResponse(saved.get(i))));
+        }
+        return results;
+    }
+
+    private List<ReservationBatchResult> createOneByOne(Session session, List<ReservationCreateRequest> reqs,
+                                                       List<String> idempotencyKeys) {
+        List<ReservationBatchResult> results = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) {
+            ReservationCreateRequest req = reqs.get(i);
+            if (sessionRepository.tryReserveSeats(session.getId(), req.quantity()) == 0) {
+                results.add(ReservationBatchResult.rejected(
+                        "Not enough seats. Available: " + toAvailability(seats(session.getId())).available()));
+            } else if (customerTicketCountRepository.tryAddTickets(session.getId(), req.customerEmail(), req.quantity()) == 0) {
+                sessionRepository.releaseSeats(session.getId(), req.quantity());
+                results.add(ReservationBatchResult.rejected(ticketLimitMessage(session.getId())));
+            } else {
+                Reservation r = reservationRepository.save(newReservation(session, req, idempotencyKeys.get(i)));
+                journal(ReservationJournal.Type.CREATED, r);
+                results.add(ReservationBatchResult.accepted(toResponse(r)));
+            }
+        }
+        if (results.stream().anyMatch(ReservationBatchResult::isAccepted)) {
+            eventPublisher.publishEvent(new SeatsChangedEvent(session.getId()));
+        }
+        return results;
+    }
+
+    /**
+     * Books every line or none. Row locks are taken in one global order,
+     * session rows by ascending id and then per-customer counters by event,
+     * the same order single bookings follow, so overlapping carts queue
+     * behind each other instead of deadlocking. Each session is updated
+     * once, with the sum of its lines.
+     */
+    @Transactional
+    public List<ReservationResponse> checkout(CartCheckoutRequest req) {
+        if (req.lines().size() > maxCartLines) {
+            throw new IllegalArgumentException("Too many cart lines. Max: " + maxCartLines);
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (CartLineRequest line : req.lines()) {
+            quantities.merge(line.sessionId(), line.quantity(), Integer::sum);
+        }
+
+        reservationLock.acquireAll(quantities.keySet());
+        Map<Long, Session> sessions = new HashMap<>();
+        for (Long sessionId : quantities.keySet()) {
+            sessions.put(sessionId, sessionService.findEntity(sessionId));
+        }
+
+        quantities.forEach((sessionId, quantity) -> {
+            if (sessionRepository.tryReserveSeats(sessionId, quantity) == 0) {
+                throw new IllegalArgumentException("Not enough seats in session " + sessionId
+                        + ". Available: " + toAvailability(seats(sessionId)).available());
+            }
+        });
+        quantities.keySet().stream()
+                .sorted(Comparator.comparing((Long id) -> sessions.get(id).getEvent().getId())
+                        .thenComparing(Comparator.naturalOrder()))
+                .forEach(sessionId -> {
+                    if (customerTicketCountRepository.tryAddTickets(
+                            sessionId, req.customerEmail(), quantities.get(sessionId)) == 0) {
+                        throw new IllegalArgumentException(ticketLimitMessage(sessionId));
+                    }
+                });
+        quantities.keySet().forEach(sessionId -> eventPublisher.publishEvent(new SeatsChangedEvent(sessionId)));
+
+        List<Reservation> reservations = req.lines().stream()
+                .map(line -> newReservation(sessions.get(line.sessionId()), new ReservationCreateRequest(
+                        line.sessionId(), req.customerName(), req.customerEmail(), line.quantity()), null))
+                .toList();
+        List<Reservation> saved = reservationRepository.saveAll(reservations);
+        saved.forEach(r -> journal(ReservationJournal.Type.CREATED, r));
+        return saved.stream().map(this::toResponse).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationPage list(String email, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+
+        ReservationCursor after = cursor == null || cursor.isBlank() ? null : ReservationCursor.decode(cursor);
+        boolean byEmail = email != null && !email.isBlank();
+        int limit = pageSize + 1;
+
+        List<Reservation> rows;
+        if (byEmail) {
+            rows = after == null
+                    ? reservationRepository.findFirstPageByEmail(email, limit)
+                    : reservationRepository.findPageByEmailBefore(email, after.createdAt(), after.id(), limit);
+        } else {
+            rows = after == null
+                    ? reservationRepository.findFirstPage(limit)
+                    : reservationRepository.findPageBefore(after.createdAt(), after.id(), limit);
+        }
+
+        String next = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Reservation last = rows.get(pageSize - 1);
+            next = new ReservationCursor(last.getCreatedAt(), last.getId()).encode();
         }
-        return reservationRepository.findAll().stream().map(this::toResponse).toList();
+        return new ReservationPage(rows.stream().map(this::toResponse).toList(), next);
     }
 
     public ReservationResponse get(Long id) {
@@ -58,26 +298,131 @@ public class ReservationService {
 
     @Transactional(readOnly = true)
     public AvailabilityResponse availability(Long sessionId) {
-        Session session = sessionService.findEntity(sessionId);
-        int capacity = session.getVenue().getCapacity();
-        long reserved = reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
-        long available = capacity - reserved;
-        return new AvailabilityResponse(sessionId, capacity, reserved, Math.max(available, 0));
+        return toAvailability(seats(sessionId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AvailabilityResponse> availability(List<Long> sessionIds) {
+        if (sessionIds.size() > maxAvailabilitySessions) {
+            throw new IllegalArgumentException("Too many sessions. Max: " + maxAvailabilitySessions);
+        }
+
+        Map<Long, AvailabilityResponse> found = new HashMap<>();
+        for (AvailabilityResponse a : availabilitySnapshot(new HashSet<>(sessionIds))) {
+            found.put(a.sessionId(), a);
+        }
+
+        return sessionIds.stream()
+                .map(id -> {
+                    AvailabilityResponse a = found.get(id);
+                    if (a == null) throw new EntityNotFoundException("Session not found: " + id);
+                    return a;
+                })
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AvailabilityResponse> availabilitySnapshot(Collection<Long> sessionIds) {
+        return sessionRepository.findSeatsByIdIn(sessionIds).stream().map(this::toAvailability).toList();
     }
 
     @Transactional
     public ReservationResponse cancel(Long id) {
-        Reservation r = reservationRepository.findById(id)
+        Reservation r = reservationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + id));
-        r.setStatus(ReservationStatus.CANCELED);
+        release(r, ReservationJournal.Type.CANCELED);
         r = reservationRepository.save(r);
         return toResponse(r);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<ReservationResponse> findByIdempotencyKey(String idempotencyKey) {
+        return reservationRepository.findByIdempotencyKey(idempotencyKey).map(this::toResponse);
+    }
+
+    /** Reads the ticket straight from the database, bypassing the per-node Bloom filter and LRU. */
+    @Transactional(readOnly = true)
+    public ReservationResponse currentTicket(UUID code) {
+        return reservationRepository.findByCode(code)
+                .map(this::toResponse)
+                .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + code));
+    }
+
     public ReservationResponse ticket(UUID code) {
+        if (!ticketCodeIndex.mightExist(code)) {
+            throw new EntityNotFoundException("Reservation not found: " + code);
+        }
+        ReservationResponse cached = ticketCodeIndex.cached(code);
+        if (cached != null) return cached;
+
+        long stamp = ticketCodeIndex.stamp();
         Reservation r = reservationRepository.findByCode(code)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found: " + code));
-        return toResponse(r);
+        ReservationResponse res = toResponse(r);
+        ticketCodeIndex.cache(res, stamp);
+        return res;
+    }
+
+    private void reserveSeats(Long sessionId, int quantity) {
+        if (sessionRepository.tryReserveSeats(sessionId, quantity) == 0) {
+            throw new IllegalArgumentException("Not enough seats. Available: " + toAvailability(seats(sessionId)).available());
+        }
+        eventPublisher.publishEvent(new SeatsChangedEvent(sessionId));
+    }
+
+    private void reserveTickets(Long sessionId, ReservationCreateRequest req) {
+        if (customerTicketCountRepository.tryAddTickets(sessionId, req.customerEmail(), req.quantity()) == 0) {
+            throw new IllegalArgumentException(ticketLimitMessage(sessionId));
+        }
+    }
+
+    private String ticketLimitMessage(Long sessionId) {
+        return "Ticket limit per customer reached. Max: "
+                + customerTicketCountRepository.findMaxTicketsPerCustomer(sessionId).orElse(null);
+    }
+
+    private void release(Reservation r, ReservationJournal.Type type) {
+        if (ReservationStatus.HOLDING_SEATS.contains(r.getStatus())) {
+            sessionRepository.releaseSeats(r.getSession().getId(), r.getQuantity());
+            customerTicketCountRepository.releaseTickets(r.getSession().getId(), r.getCustomerEmail(), r.getQuantity());
+            eventPublisher.publishEvent(new SeatsChangedEvent(r.getSession().getId()));
+            journal(type, r);
+        }
+        if (r.getStatus() == ReservationStatus.HELD) {
+            eventPublisher.publishEvent(new HoldReleasedEvent(r.getId()));
+        }
+        r.setStatus(ReservationStatus.CANCELED);
+        r.setExpiresAt(null);
+        eventPublisher.publishEvent(new ReservationStatusChangedEvent(r.getId(), r.getCode()));
+    }
+
+    private void journal(ReservationJournal.Type type, Reservation r) {
+        journal.record(type, r.getId(), r.getSession().getId(), r.getQuantity(), r.getCode());
+    }
+
+    private Reservation newReservation(Session session, ReservationCreateRequest req, String idempotencyKey) {
+        Reservation r = new Reservation();
+        r.setSession(session);
+        r.setCustomerName(req.customerName());
+        r.setCustomerEmail(req.customerEmail());
+        r.setQuantity(req.quantity());
+        r.setStatus(ReservationStatus.ACTIVE);
+        r.setIdempotencyKey(idempotencyKey);
+        r.setCode(codeGenerator.next());
+        ticketCodeIndex.add(r.getCode());
+        return r;
+    }
+
+    private SessionSeats seats(Long sessionId) {
+        return sessionRepository.findSeatsById(sessionId)
+                .orElseThrow(() -> new EntityNotFoundException("Session not found: " + sessionId));
+    }
+
+    private AvailabilityResponse toAvailability(SessionSeats seats) {
+        int capacity = seats.getCapacity();
+        long reserved = seats.getReservedSeats();
+        long available = capacity - reserved;
+        return new AvailabilityResponse(seats.getSessionId(), capacity, reserved, Math.max(available, 0));
     }
 
     private ReservationResponse toResponse(Reservation r) {
@@ -89,7 +434,8 @@ public class ReservationService {
                 r.getQuantity(),
                 r.getStatus(),
                 r.getCode(),
-                r.getCreatedAt()
+                r.getCreatedAt(),
+                r.getExpiresAt()
         );
     }
 }
@@ -0,0 +1,5 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import java.util.UUID;
+
+public record ReservationStatusChangedEvent(Long reservationId, UUID code) {}
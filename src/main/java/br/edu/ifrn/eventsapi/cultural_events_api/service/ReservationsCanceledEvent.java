@@ -0,0 +1,6 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ReservationsCanceledEvent(List<UUID> codes) {}
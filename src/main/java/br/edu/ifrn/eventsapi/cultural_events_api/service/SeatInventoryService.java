@@ -0,0 +1,55 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.JournalReplayResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatBackfillResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatDriftResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionSeats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class SeatInventoryService {
+
+    private final SessionRepository sessionRepository;
+    private final ReservationJournal reservationJournal;
+    private final CustomerTicketCountRepository customerTicketCountRepository;
+
+    @Transactional
+    public SeatBackfillResponse backfill() {
+        int updated = sessionRepository.recountReservedSeats(ReservationStatus.HOLDING_SEATS);
+        List<String> statuses = ReservationStatus.HOLDING_SEATS.stream().map(Enum::name).toList();
+        int customers = customerTicketCountRepository.recountTickets(statuses)
+                + customerTicketCountRepository.clearStaleTickets(statuses);
+        return new SeatBackfillResponse(updated, customers);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SeatDriftResponse> drift() {
+        return sessionRepository.findSeatDrift(ReservationStatus.HOLDING_SEATS).stream()
+                .map(d -> new SeatDriftResponse(d.getSessionId(), d.getCounted(), d.getActual()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<JournalReplayResponse> journalReplay() {
+        Map<Long, Long> replayed = reservationJournal.replaySeatCounts();
+        Map<Long, SessionSeats> seats = sessionRepository.findSeatsByIdIn(replayed.keySet()).stream()
+                .collect(Collectors.toMap(SessionSeats::getSessionId, Function.identity()));
+        return replayed.entrySet().stream()
+                .map(e -> {
+                    SessionSeats s = seats.get(e.getKey());
+                    return new JournalReplayResponse(e.getKey(), s == null ? null : s.getReservedSeats(), e.getValue());
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,3 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+public record SeatsChangedEvent(Long sessionId) {}
@@ -7,10 +7,14 @@ import br.edu.ifrn.eventsapi.cultural_events_api.model.Session;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.Venue;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.VenueRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.CacheLists;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,8 +26,9 @@ public class SessionService {
     private final SessionRepository sessionRepository;
     private final EventService eventService;
     private final VenueRepository venueRepository;
+    private final CacheManager cacheManager;
 
-    @CacheEvict(cacheNames = {"sessions_list", "sessions_by_id", "sessions_by_event"}, allEntries = true)
+    @CachePut(cacheNames = "sessions_by_id", key = "#result.id")
     public SessionResponse create(SessionCreateRequest req) {
         Event event = eventService.findEntity(req.eventId());
         Venue venue = venueRepository.findById(req.venueId())
@@ -36,27 +41,28 @@ public class SessionService {
         s.setPrice(req.price());
 
         s = sessionRepository.save(s);
-        return toResponse(s);
+        return cacheInLists(toResponse(s));
     }
 
-    @Cacheable(cacheNames = "sessions_list")
+    @Cacheable(cacheNames = "sessions_list", sync = true)
     public List<SessionResponse> list() {
         return sessionRepository.findAll().stream().map(this::toResponse).toList();
     }
 
-    @Cacheable(cacheNames = "sessions_by_id", key = "#id")
+    @Cacheable(cacheNames = "sessions_by_id", key = "#id", sync = true)
     public SessionResponse get(Long id) {
         return toResponse(findEntity(id));
     }
 
-    @Cacheable(cacheNames = "sessions_by_event", key = "#eventId")
+    @Cacheable(cacheNames = "sessions_by_event", key = "#eventId", sync = true)
     public List<SessionResponse> listByEvent(Long eventId) {
         return sessionRepository.findByEventId(eventId).stream().map(this::toResponse).toList();
     }
 
-    @CacheEvict(cacheNames = {"sessions_list", "sessions_by_id", "sessions_by_event"}, allEntries = true)
+    @CachePut(cacheNames = "sessions_by_id", key = "#id")
     public SessionResponse update(Long id, SessionCreateRequest req) {
         Session s = findEntity(id);
+        Long previousEventId = s.getEvent().getId();
 
         Event event = eventService.findEntity(req.eventId());
         Venue venue = venueRepository.findById(req.venueId())
@@ -68,15 +74,18 @@ public class SessionService {
         s.setPrice(req.price());
 
         s = sessionRepository.save(s);
-        return toResponse(s);
+        if (!previousEventId.equals(req.eventId())) {
+            removeFromEventList(previousEventId, id);
+        }
+        return cacheInLists(toResponse(s));
     }
 
-    @CacheEvict(cacheNames = {"sessions_list", "sessions_by_id", "sessions_by_event"}, allEntries = true)
+    @CacheEvict(cacheNames = "sessions_by_id", key = "#id")
     public void delete(Long id) {
-        if (!sessionRepository.existsById(id)) {
-            throw new EntityNotFoundException("Session not found: " + id);
-        }
+        Long eventId = findEntity(id).getEvent().getId();
         sessionRepository.deleteById(id);
+        CacheLists.<SessionResponse>remove(cacheManager, "sessions_list", SimpleKey.EMPTY, r -> r.id().equals(id));
+        removeFromEventList(eventId, id);
     }
 
     public Session findEntity(Long id) {
@@ -84,6 +93,16 @@ public class SessionService {
                 .orElseThrow(() -> new EntityNotFoundException("Session not found: " + id));
     }
 
+    private SessionResponse cacheInLists(SessionResponse res) {
+        CacheLists.<SessionResponse>upsert(cacheManager, "sessions_list", SimpleKey.EMPTY, res, r -> r.id().equals(res.id()));
+        CacheLists.<SessionResponse>upsert(cacheManager, "sessions_by_event", res.eventId(), res, r -> r.id().equals(res.id()));
+        return res;
+    }
+
+    private void removeFromEventList(Long eventId, Long sessionId) {
+        CacheLists.<SessionResponse>remove(cacheManager, "sessions_by_event", eventId, r -> r.id().equals(sessionId));
+    }
+
     private SessionResponse toResponse(Session s) {
         return new SessionResponse(
                 s.getId(),
@@ -0,0 +1,74 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Single-node mode: a fixed array of locks indexed by a hash of the session id.
+ * Sessions only wait on each other when they hash to the same stripe, so the
+ * stripe count should be well above the number of concurrently hot sessions.
+ */
+@Component
+@ConditionalOnProperty(name = "reservations.lock.mode", havingValue = "striped")
+public class StripedReservationLock implements ReservationLock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedReservationLock(@Value("${reservations.lock.stripes:1024}") int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("reservations.lock.stripes must be positive");
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        if (size < 1) size = 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void acquire(Long sessionId) {
+        lock(stripeIndex(sessionId));
+    }
+
+    /** Orders by stripe rather than by session id: two sessions may share a stripe. */
+    @Override
+    public void acquireAll(Collection<Long> sessionIds) {
+        sessionIds.stream().map(this::stripeIndex).distinct().sorted().forEach(this::lock);
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    ReentrantLock stripeFor(Long sessionId) {
+        return stripes[stripeIndex(sessionId)];
+    }
+
+    private int stripeIndex(Long sessionId) {
+        long h = sessionId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void lock(int stripe) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Reservation lock requires an active transaction");
+        }
+        ReentrantLock lock = stripes[stripe];
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationCode;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.BloomFilter;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory front for ticket lookups by code. A Bloom filter of every issued
+ * code rejects unknown codes without a query; known codes are served from a
+ * bounded LRU that is invalidated after any status change commits.
+ * Codes are added before the insert, so the filter never misses a committed
+ * code on this node. Until the startup load finishes every code is treated
+ * as possibly known.
+ * <p>
+ * Both structures are per node and only see this node's writes, so they are
+ * off by default and meant for single-node deployments. Check-in never reads
+ * through them.
+ */
+@Slf4j
+@Component
+public class TicketCodeIndex {
+
+    private final ReservationRepository reservationRepository;
+    private final boolean bloomEnabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int loadPageSize;
+    private final boolean cacheEnabled;
+
+    private final LruCache<UUID, ReservationResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final BloomFilter bloom;
+    private volatile boolean loaded;
+
+    public TicketCodeIndex(
+            ReservationRepository reservationRepository,
+            @Value("${reservations.tickets.bloom.enabled:false}") boolean bloomEnabled,
+            @Value("${reservations.tickets.bloom.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${reservations.tickets.bloom.false-positive-rate:0.001}") double falsePositiveRate,
+            @Value("${reservations.tickets.bloom.load-page-size:10000}") int loadPageSize,
+            @Value("${reservations.tickets.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${reservations.tickets.cache.max-entries:10000}") int cacheMaxEntries
+    ) {
+        this.reservationRepository = reservationRepository;
+        this.bloomEnabled = bloomEnabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.loadPageSize = loadPageSize;
+        this.cacheEnabled = cacheEnabled;
+        this.cache = new LruCache<>(cacheMaxEntries);
+        this.bloom = bloomEnabled ? new BloomFilter(expectedInsertions, falsePositiveRate) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!bloomEnabled) return;
+
+        long count = 0;
+        long afterId = 0;
+        List<ReservationCode> page;
+        do {
+            page = reservationRepository.findCodesAfter(afterId, PageRequest.ofSize(loadPageSize));
+            for (ReservationCode c : page) {
+                put(c.getCode());
+                afterId = c.getReservationId();
+            }
+            count += page.size();
+        } while (page.size() == loadPageSize);
+
+        loaded = true;
+        log.info("Loaded {} ticket codes into Bloom filter ({} bits, {} hashes)",
+                count, bloom.bitCount(), bloom.hashCount());
+        if (count > expectedInsertions) {
+            log.warn("Ticket codes ({}) exceed reservations.tickets.bloom.expected-insertions ({}); "
+                    + "false positive rate will be above {}", count, expectedInsertions, falsePositiveRate);
+        }
+    }
+
+    public void add(UUID code) {
+        if (bloomEnabled) put(code);
+    }
+
+    public boolean mightExist(UUID code) {
+        return !bloomEnabled || !loaded || bloom.mightContain(code.getMostSignificantBits(), code.getLeastSignificantBits());
+    }
+
+    public ReservationResponse cached(UUID code) {
+        return cacheEnabled ? cache.get(code) : null;
+    }
+
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void cache(ReservationResponse res, long stamp) {
+        if (!cacheEnabled) return;
+        cache.put(res.code(), res);
+        if (invalidations.get() != stamp) {
+            cache.remove(res.code());
+        }
+    }
+
+    public void invalidate(UUID code) {
+        invalidations.incrementAndGet();
+        cache.remove(code);
+    }
+
+    @TransactionalEventListener
+    public void onStatusChanged(ReservationStatusChangedEvent event) {
+        invalidate(event.code());
+    }
+
+    @TransactionalEventListener
+    public void onCanceled(ReservationsCanceledEvent event) {
+        invalidations.incrementAndGet();
+        event.codes().forEach(cache::remove);
+    }
+
+    public int cachedCount() {
+        return cache.size();
+    }
+
+    private void put(UUID code) {
+        bloom.put(code.getMostSignificantBits(), code.getLeastSignificantBits());
+    }
+}
@@ -4,10 +4,14 @@ import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.VenueCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.VenueResponse;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.Venue;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.VenueRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.CacheLists;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,8 +21,9 @@ import java.util.List;
 public class VenueService {
 
     private final VenueRepository venueRepository;
+    private final CacheManager cacheManager;
 
-    @CacheEvict(cacheNames = {"venues_list", "venues_by_id"}, allEntries = true)
+    @CachePut(cacheNames = "venues_by_id", key = "#result.id")
     public VenueResponse create(VenueCreateRequest req) {
         Venue v = Venue.builder()
                 .name(req.name())
@@ -26,22 +31,22 @@ public class VenueService {
                 .capacity(req.capacity())
                 .build();
         v = venueRepository.save(v);
-        return toResponse(v);
+        return cacheInList(toResponse(v));
     }
 
-    @Cacheable(cacheNames = "venues_list")
+    @Cacheable(cacheNames = "venues_list", sync = true)
     public List<VenueResponse> list() {
         return venueRepository.findAll().stream().map(this::toResponse).toList();
     }
 
-    @Cacheable(cacheNames = "venues_by_id", key = "#id")
+    @Cacheable(cacheNames = "venues_by_id", key = "#id", sync = true)
     public VenueResponse get(Long id) {
         Venue v = venueRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Venue not found: " + id));
         return toResponse(v);
     }
 
-    @CacheEvict(cacheNames = {"venues_list", "venues_by_id"}, allEntries = true)
+    @CachePut(cacheNames = "venues_by_id", key = "#id")
     public VenueResponse update(Long id, VenueCreateRequest req) {
         Venue v = venueRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Venue not found: " + id));
@@ -49,15 +54,21 @@ public class VenueService {
         v.setAddress(req.address());
         v.setCapacity(req.capacity());
         v = venueRepository.save(v);
-        return toResponse(v);
+        return cacheInList(toResponse(v));
     }
 
-    @CacheEvict(cacheNames = {"venues_list", "venues_by_id"}, allEntries = true)
+    @CacheEvict(cacheNames = "venues_by_id", key = "#id")
     public void delete(Long id) {
         if (!venueRepository.existsById(id)) {
             throw new EntityNotFoundException("Venue not found: " + id);
         }
         venueRepository.deleteById(id);
+        CacheLists.<VenueResponse>remove(cacheManager, "venues_list", SimpleKey.EMPTY, r -> r.id().equals(id));
+    }
+
+    private VenueResponse cacheInList(VenueResponse res) {
+        CacheLists.<VenueResponse>upsert(cacheManager, "venues_list", SimpleKey.EMPTY, res, r -> r.id().equals(res.id()));
+        return res;
     }
 
     private VenueResponse toResponse(Venue v) {
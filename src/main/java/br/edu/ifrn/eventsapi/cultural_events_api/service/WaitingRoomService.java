@@ -0,0 +1,324 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.QueueTicketResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.WaitingRoomResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.ConflictException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.SubscriberLimitExceededException;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.AdmissionQueue;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.ConcurrentBitSet;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Virtual waiting room for flash-sale sessions. Joining hands out a signed
+ * token carrying a queue sequence number, bound to the caller's principal.
+ * Each principal holds one position per room: joining again returns the same
+ * token until it has been used, so an account cannot stack places in line.
+ * A scheduler admits users in FIFO order at the room's rate. While a room is
+ * open, a reservation on its session needs an admitted token, and each token
+ * reserves once.
+ */
+@Service
+public class WaitingRoomService {
+
+    private static final int MAC_LENGTH = 16;
+    private static final int TOKEN_LENGTH = 8 + 4 + 8 + MAC_LENGTH;
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final SessionRepository sessionRepository;
+    private final double defaultAdmitPerSecond;
+    private final long streamTimeoutMillis;
+    private final int maxSubscribers;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+    private final ExecutorService senders;
+
+    public WaitingRoomService(
+            SessionRepository sessionRepository,
+            @Value("${reservations.waiting-room.admit-per-second:50}") double defaultAdmitPerSecond,
+            @Value("${reservations.waiting-room.stream.timeout-ms:1800000}") long streamTimeoutMillis,
+            @Value("${reservations.waiting-room.stream.max-subscribers:200000}") int maxSubscribers,
+            @Value("${reservations.waiting-room.stream.sender-threads:4}") int senderThreads
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.defaultAdmitPerSecond = defaultAdmitPerSecond;
+        this.streamTimeoutMillis = streamTimeoutMillis;
+        this.maxSubscribers = maxSubscribers;
+
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+        SecretKeySpec spec = new SecretKeySpec(key, "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac m = Mac.getInstance("HmacSHA256");
+                m.init(spec);
+                return m;
+            } catch (GeneralSecurityException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "waiting-room-sse");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public WaitingRoomResponse open(Long sessionId, Double admitPerSecond) {
+        if (!sessionRepository.existsById(sessionId)) {
+            throw new EntityNotFoundException("Session not found: " + sessionId);
+        }
+        double rate = admitPerSecond == null ? defaultAdmitPerSecond : admitPerSecond;
+        if (rate <= 0) {
+            throw new IllegalArgumentException("admitPerSecond must be positive");
+        }
+        Room room = rooms.computeIfAbsent(sessionId, id -> new Room(random.nextInt(), new AdmissionQueue(rate, System.nanoTime())));
+        return toResponse(sessionId, room);
+    }
+
+    public void close(Long sessionId) {
+        Room room = rooms.remove(sessionId);
+        if (room == null) {
+            throw new EntityNotFoundException("Waiting room not found: " + sessionId);
+        }
+        room.subscribers.forEach(w -> w.emitter.complete());
+    }
+
+    public WaitingRoomResponse get(Long sessionId) {
+        return toResponse(sessionId, room(sessionId));
+    }
+
+    public QueueTicketResponse join(Long sessionId, String principal) {
+        Room room = room(sessionId);
+        long seq = room.positions.compute(String.valueOf(principal),
+                (p, current) -> current != null && !room.used.get(current) ? current : room.queue.enqueue());
+        return ticket(sessionId, room, seq, encode(sessionId, room.epoch, seq, principal));
+    }
+
+    public QueueTicketResponse status(Long sessionId, String token, String principal) {
+        Room room = room(sessionId);
+        return ticket(sessionId, room, decode(sessionId, room, token, principal), token);
+    }
+
+    public SseEmitter subscribe(Long sessionId, String token, String principal) {
+        return register(new SseEmitter(streamTimeoutMillis), sessionId, token, principal);
+    }
+
+    SseEmitter register(SseEmitter emitter, Long sessionId, String token, String principal) {
+        Room room = room(sessionId);
+        long seq = decode(sessionId, room, token, principal);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SubscriberLimitExceededException("Too many waiting room subscribers", RETRY_AFTER_SECONDS);
+        }
+
+        Waiter waiter = new Waiter(sessionId, seq, token, emitter);
+        room.subscribers.add(waiter);
+        emitter.onCompletion(() -> unsubscribe(room, waiter));
+        emitter.onTimeout(() -> unsubscribe(room, waiter));
+        emitter.onError(ex -> unsubscribe(room, waiter));
+        schedule(room, waiter);
+        return emitter;
+    }
+
+    /**
+     * Runs {@code action} if the session has no open room. Otherwise the token
+     * must be admitted and unused. It is consumed, and given back only when the
+     * action fails in a way known to have written nothing (bad request,
+     * conflict, not found); after any other failure, such as a timed-out
+     * create that may still commit, the token stays spent.
+     */
+    public <T> T reserve(Long sessionId, String token, String principal, Supplier<T> action) {
+        Room room = rooms.get(sessionId);
+        if (room == null) return action.get();
+        if (token == null || token.isBlank()) {
+            throw new ConflictException("Session " + sessionId + " is in flash-sale mode: join the waiting room first");
+        }
+
+        long seq = decode(sessionId, room, token, principal);
+        if (!room.queue.isAdmitted(seq)) {
+            throw new ConflictException("Queue token not admitted yet. Position: " + room.queue.position(seq));
+        }
+        if (!room.used.set(seq)) {
+            throw new ConflictException("Queue token already used");
+        }
+        try {
+            return action.get();
+        } catch (IllegalArgumentException | ConflictException | EntityNotFoundException ex) {
+            room.used.clear(seq);
+            throw ex;
+        }
+    }
+
+    public boolean isOpen(Long sessionId) {
+        return rooms.containsKey(sessionId);
+    }
+
+    /** Carts carry no queue tokens, so they cannot include a session in flash-sale mode. */
+    public void requireNoRoom(Collection<Long> sessionIds) {
+        for (Long sessionId : sessionIds) {
+            if (rooms.containsKey(sessionId)) {
+                throw new ConflictException("Session " + sessionId + " is in flash-sale mode: book it separately");
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservations.waiting-room.tick-ms:100}")
+    public void admit() {
+        long now = System.nanoTime();
+        rooms.values().forEach(room -> room.queue.advance(now));
+    }
+
+    @Scheduled(fixedDelayString = "${reservations.waiting-room.stream.interval-ms:2000}")
+    public void push() {
+        rooms.values().forEach(room -> room.subscribers.forEach(w -> schedule(room, w)));
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void schedule(Room room, Waiter waiter) {
+        if (waiter.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(room, waiter));
+        }
+    }
+
+    private void send(Room room, Waiter waiter) {
+        try {
+            QueueTicketResponse t = ticket(waiter.sessionId, room, waiter.seq, waiter.token);
+            if (t.position() == waiter.lastPosition) return;
+            waiter.lastPosition = t.position();
+            waiter.emitter.send(SseEmitter.event().name("position").data(t));
+            if (t.admitted()) waiter.emitter.complete();
+        } catch (IOException | IllegalStateException ex) {
+            unsubscribe(room, waiter);
+        } finally {
+            waiter.sending.set(false);
+        }
+    }
+
+    private void unsubscribe(Room room, Waiter waiter) {
+        if (room.subscribers.remove(waiter)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private Room room(Long sessionId) {
+        Room room = rooms.get(sessionId);
+        if (room == null) {
+            throw new EntityNotFoundException("Waiting room not found: " + sessionId);
+        }
+        return room;
+    }
+
+    private QueueTicketResponse ticket(Long sessionId, Room room, long seq, String token) {
+        long position = room.queue.position(seq);
+        return new QueueTicketResponse(sessionId, token, position, position == 0);
+    }
+
+    private WaitingRoomResponse toResponse(Long sessionId, Room room) {
+        return new WaitingRoomResponse(sessionId, room.queue.admitPerSecond(), room.queue.waiting());
+    }
+
+    private String encode(Long sessionId, int epoch, long seq, String principal) {
+        ByteBuffer buf = ByteBuffer.allocate(TOKEN_LENGTH).putLong(sessionId).putInt(epoch).putLong(seq);
+        buf.put(sign(buf.array(), principal));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+    }
+
+    private long decode(Long sessionId, Room room, String token, String principal) {
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException ex) {
+            raw = new byte[0];
+        }
+        if (raw.length != TOKEN_LENGTH) {
+            throw new IllegalArgumentException("Invalid queue token");
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(raw);
+        long tokenSession = buf.getLong();
+        int epoch = buf.getInt();
+        long seq = buf.getLong();
+        byte[] given = new byte[MAC_LENGTH];
+        buf.get(given);
+
+        if (tokenSession != sessionId || epoch != room.epoch || !room.queue.isIssued(seq)
+                || !MessageDigest.isEqual(given, sign(raw, principal))) {
+            throw new IllegalArgumentException("Invalid queue token");
+        }
+        return seq;
+    }
+
+    private byte[] sign(byte[] token, String principal) {
+        Mac m = mac.get();
+        m.update(token, 0, TOKEN_LENGTH - MAC_LENGTH);
+        m.update(String.valueOf(principal).getBytes(StandardCharsets.UTF_8));
+        byte[] full = m.doFinal();
+        byte[] out = new byte[MAC_LENGTH];
+        System.arraycopy(full, 0, out, 0, MAC_LENGTH);
+        return out;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+        rooms.values().forEach(room -> room.subscribers.forEach(w -> w.emitter.complete()));
+    }
+
+    private static final class Room {
+        final int epoch;
+        final AdmissionQueue queue;
+        final ConcurrentBitSet used = new ConcurrentBitSet();
+        final Set<Waiter> subscribers = ConcurrentHashMap.newKeySet();
+        final Map<String, Long> positions = new ConcurrentHashMap<>();
+
+        Room(int epoch, AdmissionQueue queue) {
+            this.epoch = epoch;
+            this.queue = queue;
+        }
+    }
+
+    private static final class Waiter {
+        final Long sessionId;
+        final long seq;
+        final String token;
+        final SseEmitter emitter;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long lastPosition = -1;
+
+        Waiter(Long sessionId, long seq, String token, SseEmitter emitter) {
+            this.sessionId = sessionId;
+            this.seq = seq;
+            this.token = token;
+            this.emitter = emitter;
+        }
+    }
+}
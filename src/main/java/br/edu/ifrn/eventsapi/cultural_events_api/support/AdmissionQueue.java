@@ -0,0 +1,68 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FIFO admission by sequence number. Joining takes the next number and
+ * admitting moves a watermark forward. Both are O(1), and a waiting user costs
+ * no memory beyond the number handed back to them. Admission credit accrues at
+ * a fixed rate and is capped at one second's worth, so an idle queue cannot
+ * save up a burst.
+ */
+public class AdmissionQueue {
+
+    private final AtomicLong issued = new AtomicLong();
+    private final AtomicLong admitted = new AtomicLong();
+    private final double admitPerSecond;
+
+    private long lastAdvanceNanos;
+    private double credit;
+
+    public AdmissionQueue(double admitPerSecond, long nowNanos) {
+        if (admitPerSecond <= 0) {
+            throw new IllegalArgumentException("admitPerSecond must be positive");
+        }
+        this.admitPerSecond = admitPerSecond;
+        this.lastAdvanceNanos = nowNanos;
+    }
+
+    /** @return the caller's sequence number, starting at 1 */
+    public long enqueue() {
+        return issued.incrementAndGet();
+    }
+
+    /** @return how many users, including the caller, are still waiting up to {@code seq}; 0 once admitted */
+    public long position(long seq) {
+        return Math.max(0, seq - admitted.get());
+    }
+
+    public boolean isAdmitted(long seq) {
+        return seq >= 1 && seq <= admitted.get();
+    }
+
+    public boolean isIssued(long seq) {
+        return seq >= 1 && seq <= issued.get();
+    }
+
+    public long waiting() {
+        return issued.get() - admitted.get();
+    }
+
+    public double admitPerSecond() {
+        return admitPerSecond;
+    }
+
+    /** Admits as many waiting users as the credit accrued since the last call allows. */
+    public synchronized long advance(long nowNanos) {
+        credit = Math.min(Math.max(1, admitPerSecond),
+                credit + (nowNanos - lastAdvanceNanos) * admitPerSecond / 1_000_000_000d);
+        lastAdvanceNanos = nowNanos;
+
+        long n = Math.min((long) credit, waiting());
+        if (n > 0) {
+            admitted.addAndGet(n);
+            credit -= n;
+        }
+        return n;
+    }
+}
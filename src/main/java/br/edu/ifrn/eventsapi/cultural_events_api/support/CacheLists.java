@@ -0,0 +1,53 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Patches cached lists in place after a write instead of dropping them. Lists
+ * that are not cached stay absent; the next read loads them. On Caffeine the
+ * patch is atomic per key. Other caches only evict the key.
+ */
+public final class CacheLists {
+
+    private CacheLists() {}
+
+    /** Replaces the element matching {@code same}, or appends {@code item} if none does. */
+    public static <T> void upsert(CacheManager manager, String cacheName, Object key, T item, Predicate<T> same) {
+        CacheLists.<T>patch(manager, cacheName, key, list -> {
+            List<T> out = new ArrayList<>(list.size() + 1);
+            boolean replaced = false;
+            for (T t : list) {
+                if (!replaced && same.test(t)) {
+                    out.add(item);
+                    replaced = true;
+                } else {
+                    out.add(t);
+                }
+            }
+            if (!replaced) out.add(item);
+            return List.copyOf(out);
+        });
+    }
+
+    public static <T> void remove(CacheManager manager, String cacheName, Object key, Predicate<T> match) {
+        CacheLists.<T>patch(manager, cacheName, key, list -> list.stream().filter(match.negate()).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> void patch(CacheManager manager, String cacheName, Object key, UnaryOperator<List<T>> fn) {
+        Cache cache = manager.getCache(cacheName);
+        if (cache == null) return;
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).asMap()
+                    .computeIfPresent(key, (k, v) -> fn.apply((List<T>) v));
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sparse, lock-free bit set over non-negative {@code long} indexes. Bits live in
+ * 4096-bit pages that are allocated on first write, so ids clustered in a range
+ * cost about one bit each regardless of how large the ids are.
+ */
+public class ConcurrentBitSet {
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int WORDS_PER_PAGE = (1 << PAGE_SHIFT) >>> 6;
+
+    private final ConcurrentHashMap<Long, AtomicLongArray> pages = new ConcurrentHashMap<>();
+
+    /** @return true if the bit was clear and this call set it */
+    public boolean set(long index) {
+        checkIndex(index);
+        AtomicLongArray page = pages.computeIfAbsent(index >>> PAGE_SHIFT, k -> new AtomicLongArray(WORDS_PER_PAGE));
+        int word = (int) (index >>> 6) & (WORDS_PER_PAGE - 1);
+        long mask = 1L << index;
+        while (true) {
+            long current = page.get(word);
+            if ((current & mask) != 0) return false;
+            if (page.compareAndSet(word, current, current | mask)) return true;
+        }
+    }
+
+    public boolean get(long index) {
+        checkIndex(index);
+        AtomicLongArray page = pages.get(index >>> PAGE_SHIFT);
+        return page != null && (page.get((int) (index >>> 6) & (WORDS_PER_PAGE - 1)) & (1L << index)) != 0;
+    }
+
+    public void clear(long index) {
+        checkIndex(index);
+        AtomicLongArray page = pages.get(index >>> PAGE_SHIFT);
+        if (page == null) return;
+        int word = (int) (index >>> 6) & (WORDS_PER_PAGE - 1);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = page.get(word);
+        } while ((current & mask) != 0 && !page.compareAndSet(word, current, current & ~mask));
+    }
+
+    public long cardinality() {
+        long count = 0;
+        for (AtomicLongArray page : pages.values()) {
+            for (int i = 0; i < page.length(); i++) count += Long.bitCount(page.get(i));
+        }
+        return count;
+    }
+
+    private static void checkIndex(long index) {
+        if (index < 0) throw new IndexOutOfBoundsException("Negative index: " + index);
+    }
+}
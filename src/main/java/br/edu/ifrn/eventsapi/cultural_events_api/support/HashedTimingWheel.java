@@ -0,0 +1,166 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel (Varghese &amp; Lauck). Scheduling and cancelling are O(1);
+ * each tick only visits the timeouts hashed into the current bucket.
+ * Buckets are touched exclusively by the worker thread: new timeouts are handed
+ * over through a lock-free queue and cancelled ones are unlinked lazily.
+ * Expired tasks run on the supplied executor, never on the worker thread.
+ */
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Executor executor;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean running = true;
+
+    public HashedTimingWheel(Duration tick, int wheelSize, Executor executor, String name) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size < 1) size = 1;
+
+        this.tickNanos = tick.toNanos();
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) wheel[i] = new Bucket();
+        this.mask = size - 1;
+        this.executor = executor;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is stopped");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(delay.toNanos(), 0);
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public int wheelSize() {
+        return wheel.length;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (Thread.interrupted() && !running) return;
+                continue;
+            }
+            transferPending(tick);
+            wheel[(int) (tick & mask)].expire(executor);
+            tick++;
+        }
+    }
+
+    private void transferPending(long tick) {
+        Timeout t;
+        while ((t = pending.poll()) != null) {
+            if (t.state.get() == Timeout.CANCELLED) continue;
+            long calculated = t.deadline / tickNanos;
+            t.remainingRounds = Math.max((calculated - tick) / wheel.length, 0);
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(t);
+        }
+    }
+
+    public static final class Timeout {
+        static final int ACTIVE = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+        long remainingRounds;
+        Timeout prev;
+        Timeout next;
+
+        Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public boolean cancel() {
+            return state.compareAndSet(ACTIVE, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout t) {
+            if (head == null) {
+                head = tail = t;
+            } else {
+                tail.next = t;
+                t.prev = tail;
+                tail = t;
+            }
+        }
+
+        void expire(Executor executor) {
+            Timeout t = head;
+            while (t != null) {
+                Timeout next = t.next;
+                if (t.state.get() == Timeout.CANCELLED) {
+                    remove(t);
+                } else if (t.remainingRounds <= 0) {
+                    remove(t);
+                    if (t.state.compareAndSet(Timeout.ACTIVE, Timeout.EXPIRED)) {
+                        executor.execute(t.task);
+                    }
+                } else {
+                    t.remainingRounds--;
+                }
+                t = next;
+            }
+        }
+
+        private void remove(Timeout t) {
+            if (t.prev != null) t.prev.next = t.next;
+            else head = t.next;
+            if (t.next != null) t.next.prev = t.prev;
+            else tail = t.prev;
+            t.prev = t.next = null;
+        }
+    }
+}
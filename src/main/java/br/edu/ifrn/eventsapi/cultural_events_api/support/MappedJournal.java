@@ -0,0 +1,204 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of opaque records over fixed-size memory-mapped segment files.
+ * Each record is {@code [int length][int crc32c][payload]}. The header is
+ * written after the payload, and a zero length marks the end of a segment.
+ * A torn write therefore fails its checksum and ends the replay there.
+ * An append is a copy into the mapping. Durability depends on the
+ * {@link FsyncPolicy}.
+ */
+public class MappedJournal implements AutoCloseable {
+
+    public enum FsyncPolicy {
+        /** Leave write-back to the OS. Survives a process crash but not a power loss. */
+        NEVER,
+        /** Force the active segment from a background thread at a fixed interval. */
+        INTERVAL,
+        /** Force after every append. */
+        ALWAYS
+    }
+
+    static final int HEADER = 8;
+    private static final String SUFFIX = ".journal";
+
+    private final Path dir;
+    private final int segmentSize;
+    private final FsyncPolicy policy;
+    private final ScheduledExecutorService syncer;
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean dirty;
+
+    public MappedJournal(Path dir, int segmentSize, FsyncPolicy policy, Duration fsyncInterval) throws IOException {
+        if (segmentSize <= HEADER) {
+            throw new IllegalArgumentException("segmentSize must be larger than the record header");
+        }
+        this.dir = Files.createDirectories(dir);
+        this.segmentSize = segmentSize;
+        this.policy = policy;
+
+        List<Path> segments = segments(dir);
+        if (segments.isEmpty()) {
+            open(0);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            open(indexOf(last));
+            buffer.position(endOf(buffer));
+        }
+
+        if (policy == FsyncPolicy.INTERVAL) {
+            syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "journal-fsync");
+                t.setDaemon(true);
+                return t;
+            });
+            long millis = fsyncInterval.toMillis();
+            syncer.scheduleWithFixedDelay(this::forceQuietly, millis, millis, TimeUnit.MILLISECONDS);
+        } else {
+            syncer = null;
+        }
+    }
+
+    /** Appends the remaining bytes of {@code payload}. */
+    public synchronized void append(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (length == 0 || length > segmentSize - HEADER) {
+            throw new IllegalArgumentException("Record size out of range: " + length);
+        }
+        if (buffer.remaining() < HEADER + length) {
+            roll();
+        }
+
+        int start = buffer.position();
+        crc.reset();
+        crc.update(payload.duplicate());
+        buffer.put(start + HEADER, payload, payload.position(), length);
+        buffer.putInt(start + 4, (int) crc.getValue());
+        buffer.putInt(start, length);
+        buffer.position(start + HEADER + length);
+
+        if (policy == FsyncPolicy.ALWAYS) {
+            buffer.force();
+        } else {
+            dirty = true;
+        }
+    }
+
+    public synchronized void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    public synchronized long segmentIndex() {
+        return segmentIndex;
+    }
+
+    /**
+     * Feeds every intact record, oldest first, to {@code consumer}. Each buffer
+     * is a read-only view of one payload.
+     */
+    public static long replay(Path dir, Consumer<ByteBuffer> consumer) throws IOException {
+        long records = 0;
+        CRC32C crc = new CRC32C();
+        for (Path segment : segments(dir)) {
+            try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                int pos = 0;
+                while (pos + HEADER <= buf.limit()) {
+                    int length = buf.getInt(pos);
+                    if (length <= 0 || pos + HEADER + length > buf.limit()) break;
+                    ByteBuffer payload = buf.slice(pos + HEADER, length).asReadOnlyBuffer();
+                    crc.reset();
+                    crc.update(payload.duplicate());
+                    if ((int) crc.getValue() != buf.getInt(pos + 4)) break;
+                    consumer.accept(payload);
+                    records++;
+                    pos += HEADER + length;
+                }
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (syncer != null) syncer.shutdownNow();
+        if (policy != FsyncPolicy.NEVER) buffer.force();
+        channel.close();
+    }
+
+    private void roll() {
+        try {
+            if (policy != FsyncPolicy.NEVER) buffer.force();
+            channel.close();
+            open(segmentIndex + 1);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void open(long index) throws IOException {
+        Path file = dir.resolve(String.format("%020d%s", index, SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentIndex = index;
+        dirty = false;
+    }
+
+    private void forceQuietly() {
+        try {
+            force();
+        } catch (RuntimeException ignored) {
+            // retried on the next tick
+        }
+    }
+
+    private static int endOf(ByteBuffer buf) {
+        CRC32C crc = new CRC32C();
+        int pos = 0;
+        while (pos + HEADER <= buf.limit()) {
+            int length = buf.getInt(pos);
+            if (length <= 0 || pos + HEADER + length > buf.limit()) break;
+            crc.reset();
+            crc.update(buf.slice(pos + HEADER, length));
+            if ((int) crc.getValue() != buf.getInt(pos + 4)) break;
+            pos += HEADER + length;
+        }
+        return pos;
+    }
+
+    private static List<Path> segments(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) return List.of();
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+    }
+
+    private static long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
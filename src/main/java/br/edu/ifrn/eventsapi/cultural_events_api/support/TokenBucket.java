@@ -0,0 +1,44 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The state is one "theoretical arrival time": the
+ * instant at which the bucket would be full again (GCRA). Taking a token
+ * pushes it forward by one refill interval with a single CAS.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, double tokensPerSecond, long nowNanos) {
+        if (capacity < 1 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and tokensPerSecond must be positive");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstNanos = (capacity - 1) * intervalNanos;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /** Takes a token; returns 0 on success, otherwise the nanos until one is available. */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long wait = base - burstNanos - nowNanos;
+            if (wait > 0) return wait;
+            if (fullAt.compareAndSet(current, base + intervalNanos)) return 0;
+        }
+    }
+
+    /** Gives back a token taken by {@link #tryAcquire} that was not used; never fills past capacity. */
+    public void release(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long back = current - intervalNanos;
+            if (fullAt.compareAndSet(current, back - nowNanos > 0 ? back : nowNanos)) return;
+        }
+    }
+}
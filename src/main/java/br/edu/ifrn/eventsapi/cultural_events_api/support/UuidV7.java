@@ -0,0 +1,47 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: 48-bit Unix millisecond timestamp, then a 12-bit
+ * counter, then 62 random bits. Values from this JVM are strictly increasing,
+ * so inserts into a B-tree index on the value append to its right edge.
+ * When the counter overflows within one millisecond, the timestamp runs ahead
+ * of the clock. The random bits come from {@link SecureRandom}, so codes stay
+ * unguessable.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID randomUuid() {
+        return fromState(nextState(System.currentTimeMillis()), RANDOM.nextLong());
+    }
+
+    static long nextState(long nowMillis) {
+        long start = (nowMillis << 12) | (RANDOM.nextInt(0x800));
+        while (true) {
+            long prev = LAST.get();
+            long next = start > prev ? start : prev + 1;
+            if (LAST.compareAndSet(prev, next)) return next;
+        }
+    }
+
+    static UUID fromState(long state, long random) {
+        long msb = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+        long lsb = (random & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,45 @@
+-- Schema as created by Hibernate (ddl-auto=update) before migrations were introduced.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate).
+
+create table events (
+    id bigint generated by default as identity primary key,
+    title varchar(140) not null,
+    description varchar(600),
+    category varchar(80),
+    start_date date not null,
+    end_date date not null
+);
+
+create table venues (
+    id bigint generated by default as identity primary key,
+    name varchar(120) not null,
+    address varchar(200) not null,
+    capacity integer not null
+);
+
+create table sessions (
+    id bigint generated by default as identity primary key,
+    event_id bigint not null references events,
+    venue_id bigint not null references venues,
+    starts_at timestamp(6) not null,
+    price numeric(38, 2) not null
+);
+
+create table reservations (
+    id bigint generated by default as identity primary key,
+    session_id bigint not null references sessions,
+    customer_name varchar(120) not null,
+    customer_email varchar(160) not null,
+    quantity integer not null,
+    status varchar(20) not null check (status in ('ACTIVE', 'CANCELED')),
+    code uuid not null unique,
+    created_at timestamp(6) not null
+);
+
+create table users (
+    id bigint generated by default as identity primary key,
+    name varchar(120) not null,
+    email varchar(160) not null unique,
+    password_hash varchar(120) not null,
+    role varchar(20) not null check (role in ('ADMIN', 'ORGANIZER', 'USER'))
+);
@@ -0,0 +1,43 @@
+-- Columns and tables added on top of the baseline: seat counters, holds,
+-- idempotency keys, check-in and the per-customer ticket limit.
+-- "if not exists" because databases that ran with ddl-auto=update before
+-- migrations were introduced may already have some of them.
+
+alter table events add column if not exists max_tickets_per_customer integer;
+
+alter table reservations add column if not exists idempotency_key varchar(100);
+alter table reservations add column if not exists expires_at timestamp(6);
+alter table reservations add column if not exists checked_in_at timestamp(6);
+create unique index if not exists reservations_idempotency_key_key on reservations (idempotency_key);
+
+-- Hibernate does not widen the enum check on update; HELD rows were rejected.
+alter table reservations drop constraint if exists reservations_status_check;
+alter table reservations add constraint reservations_status_check
+    check (status in ('ACTIVE', 'HELD', 'CANCELED'));
+
+-- Seats held by active reservations and holds (ReservationStatus.HOLDING_SEATS).
+alter table sessions add column if not exists reserved_seats integer;
+update sessions s
+set reserved_seats = (
+    select coalesce(sum(r.quantity), 0)
+    from reservations r
+    where r.session_id = s.id and r.status in ('ACTIVE', 'HELD')
+);
+alter table sessions alter column reserved_seats set default 0;
+alter table sessions alter column reserved_seats set not null;
+
+create table if not exists customer_ticket_counts (
+    event_id bigint not null,
+    customer_email varchar(160) not null,
+    tickets integer not null,
+    primary key (event_id, customer_email)
+);
+
+insert into customer_ticket_counts (event_id, customer_email, tickets)
+select s.event_id, lower(r.customer_email), sum(r.quantity)
+from reservations r
+join sessions s on s.id = r.session_id
+where r.status in ('ACTIVE', 'HELD')
+group by s.event_id, lower(r.customer_email)
+on conflict (event_id, customer_email) do update
+set tickets = excluded.tickets;
@@ -0,0 +1,23 @@
+-- Customer history and admin listing, keyset-paginated on (created_at desc, id desc).
+create index if not exists idx_reservations_email_created on reservations (customer_email, created_at desc, id desc);
+create index if not exists idx_reservations_created on reservations (created_at desc, id desc);
+
+-- Seat aggregate (sumQuantityBySessionAndStatus), bulk cancel by session and the
+-- foreign key: answered from the index alone. The status is a bind parameter, so a
+-- partial index on one status would not match the cached generic plan.
+create index if not exists idx_reservations_session_status
+    on reservations (session_id, status) include (quantity);
+
+-- Hold expiry timer rebuilt on startup (findHeld).
+create index if not exists idx_reservations_held
+    on reservations (id) include (expires_at)
+    where status = 'HELD';
+
+-- Check-in bitmaps rebuilt on startup.
+create index if not exists idx_reservations_checked_in
+    on reservations (id) include (session_id)
+    where checked_in_at is not null;
+
+-- Sessions of an event (listing, export, bulk cancel) and foreign key lookups.
+create index if not exists idx_sessions_event on sessions (event_id);
+create index if not exists idx_sessions_venue on sessions (venue_id);
@@ -0,0 +1,30 @@
+-- Identity columns -> sequences with increment 50, matching the pooled optimizer
+-- (@SequenceGenerator allocationSize = 50): each nextval reserves the block
+-- (value - 49 .. value], so Hibernate assigns ids without a round trip per row
+-- and can batch the inserts. Existing ids are kept; new blocks start above max(id).
+-- The column default keeps plain SQL inserts working; each one consumes a block.
+
+alter table events alter column id drop identity if exists;
+create sequence events_seq start with 1 increment by 50 owned by events.id;
+select setval('events_seq', coalesce(max(id), 0) + 50, false) from events;
+alter table events alter column id set default nextval('events_seq');
+
+alter table venues alter column id drop identity if exists;
+create sequence venues_seq start with 1 increment by 50 owned by venues.id;
+select setval('venues_seq', coalesce(max(id), 0) + 50, false) from venues;
+alter table venues alter column id set default nextval('venues_seq');
+
+alter table sessions alter column id drop identity if exists;
+create sequence sessions_seq start with 1 increment by 50 owned by sessions.id;
+select setval('sessions_seq', coalesce(max(id), 0) + 50, false) from sessions;
+alter table sessions alter column id set default nextval('sessions_seq');
+
+alter table reservations alter column id drop identity if exists;
+create sequence reservations_seq start with 1 increment by 50 owned by reservations.id;
+select setval('reservations_seq', coalesce(max(id), 0) + 50, false) from reservations;
+alter table reservations alter column id set default nextval('reservations_seq');
+
+alter table users alter column id drop identity if exists;
+create sequence users_seq start with 1 increment by 50 owned by users.id;
+select setval('users_seq', coalesce(max(id), 0) + 50, false) from users;
+alter table users alter column id set default nextval('users_seq');
@@ -0,0 +1,104 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class BenchmarkHarness {
+
+    @FunctionalInterface
+    public interface Operation {
+        /** @return true when the booking was accepted, false when it was rejected for lack of seats */
+        boolean run(int thread, int iteration) throws Exception;
+    }
+
+    public record Result(
+            String name,
+            int threads,
+            long accepted,
+            long rejected,
+            long errors,
+            double acceptedPerSecond,
+            double p50Micros,
+            double p99Micros,
+            double p999Micros
+    ) {
+        public static String header() {
+            return String.format("%-28s %7s %9s %9s %7s %11s %10s %10s %10s",
+                    "strategy", "threads", "accepted", "rejected", "errors", "accepted/s", "p50(us)", "p99(us)", "p999(us)");
+        }
+
+        public String row() {
+            return String.format("%-28s %7d %9d %9d %7d %11.1f %10.1f %10.1f %10.1f",
+                    name, threads, accepted, rejected, errors, acceptedPerSecond, p50Micros, p99Micros, p999Micros);
+        }
+    }
+
+    private BenchmarkHarness() {}
+
+    public static Result run(String name, int threads, int iterationsPerThread, Operation op) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong accepted = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        List<Future<long[]>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                long[] latencies = new long[iterationsPerThread];
+                start.await();
+                for (int i = 0; i < iterationsPerThread; i++) {
+                    long begin = System.nanoTime();
+                    try {
+                        if (op.run(thread, i)) accepted.incrementAndGet();
+                        else rejected.incrementAndGet();
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] all = new long[threads * iterationsPerThread];
+        int offset = 0;
+        for (Future<long[]> f : futures) {
+            try {
+                long[] part = f.get();
+                System.arraycopy(part, 0, all, offset, part.length);
+                offset += part.length;
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        Arrays.sort(all);
+        double seconds = elapsed / 1_000_000_000.0;
+        return new Result(
+                name,
+                threads,
+                accepted.get(),
+                rejected.get(),
+                errors.get(),
+                accepted.get() / seconds,
+                percentile(all, 0.50),
+                percentile(all, 0.99),
+                percentile(all, 0.999)
+        );
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(idx, 0)] / 1000.0;
+    }
+}
@@ -0,0 +1,75 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.benchmark;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput, unique-index size and WAL volume for random (v4) versus
+ * time-ordered (v7) codes. Not part of the regular suite; run with
+ * {@code mvn test -Dtest=ReservationCodeBenchmark} and tune with
+ * {@code -Dbench.threads}, {@code -Dbench.rows} and {@code -Dbench.batch}.
+ */
+@SpringBootTest
+class ReservationCodeBenchmark extends IntegrationTestBase {
+
+    static final int THREADS = Integer.getInteger("bench.threads", 4);
+    static final int ROWS = Integer.getInteger("bench.rows", 400_000);
+    static final int BATCH = Integer.getInteger("bench.batch", 500);
+
+    @Autowired JdbcTemplate jdbc;
+
+    @AfterEach
+    void drop() {
+        jdbc.execute("drop table if exists bench_codes_v4");
+        jdbc.execute("drop table if exists bench_codes_v7");
+    }
+
+    private String insert(String table, String name, Supplier<UUID> generator) throws Exception {
+        jdbc.execute("drop table if exists " + table);
+        jdbc.execute("create table " + table + " (id bigserial primary key, code uuid not null unique)");
+        String sql = "insert into " + table + " (code) values (?)";
+        long walBefore = walPosition();
+
+        int batchesPerThread = Math.max(1, ROWS / BATCH / THREADS);
+        var result = BenchmarkHarness.run(name, THREADS, batchesPerThread, (t, i) -> {
+            List<Object[]> args = new ArrayList<>(BATCH);
+            for (int j = 0; j < BATCH; j++) args.add(new Object[]{generator.get()});
+            jdbc.batchUpdate(sql, args);
+            return true;
+        });
+
+        long walBytes = walPosition() - walBefore;
+        long indexBytes = indexSize(table);
+        return result.row() + String.format(" %10.1f %10.1f %10.1f",
+                result.acceptedPerSecond() * BATCH, indexBytes / 1048576.0, walBytes / 1048576.0);
+    }
+
+    private long walPosition() {
+        return jdbc.queryForObject("select pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint", Long.class);
+    }
+
+    private long indexSize(String table) {
+        return jdbc.queryForObject("select pg_relation_size(?::regclass)", Long.class, table + "_code_key");
+    }
+
+    @Test
+    void codeFormats() throws Exception {
+        String v4 = insert("bench_codes_v4", "uuid-v4 (" + BATCH + "/batch)", UUID::randomUUID);
+        String v7 = insert("bench_codes_v7", "uuid-v7 (" + BATCH + "/batch)", UuidV7::randomUuid);
+
+        System.out.println(BenchmarkHarness.Result.header()
+                + String.format(" %10s %10s %10s", "rows/s", "index(MB)", "wal(MB)"));
+        System.out.println(v4);
+        System.out.println(v7);
+    }
+}
@@ -0,0 +1,161 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.benchmark;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationBatcher;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationCodeGenerator;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.SessionService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.StripedReservationLock;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many threads booking one seat at a time on a single hot session.
+ * Not part of the regular suite; run with {@code mvn test -Dtest=ReservationContentionBenchmark}
+ * and tune with {@code -Dbench.threads}, {@code -Dbench.iterations} and {@code -Dbench.capacity}.
+ */
+@SpringBootTest
+class ReservationContentionBenchmark extends IntegrationTestBase {
+
+    static final int THREADS = Integer.getInteger("bench.threads", 32);
+    static final int ITERATIONS = Integer.getInteger("bench.iterations", 50);
+    static final int CAPACITY = Integer.getInteger("bench.capacity", 1000);
+
+    @Autowired ReservationService reservationService;
+    @Autowired ReservationCodeGenerator codeGenerator;
+    @Autowired SessionService sessionService;
+    @Autowired TransactionTemplate tx;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    private Session seedSession() {
+        Event e = eventRepository.save(Event.builder()
+                .title("Benchmark")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Arena")
+                .address("IFRN")
+                .capacity(CAPACITY)
+                .build());
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.TEN)
+                .build());
+    }
+
+    private ReservationCreateRequest req(Long sessionId, int thread) {
+        return new ReservationCreateRequest(sessionId, "Cliente " + thread, "cliente" + thread + "@ifrn.edu.br", 1);
+    }
+
+    private boolean legacyCreate(Long sessionId, int thread) {
+        return Boolean.TRUE.equals(tx.execute(status -> {
+            Session s = sessionService.findEntity(sessionId);
+            long reserved = reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
+            if (1 > s.getVenue().getCapacity() - reserved) return false;
+
+            Reservation r = new Reservation();
+            r.setSession(s);
+            r.setCustomerName("Cliente " + thread);
+            r.setCustomerEmail("cliente" + thread + "@ifrn.edu.br");
+            r.setQuantity(1);
+            r.setStatus(ReservationStatus.ACTIVE);
+            r.setCode(codeGenerator.next());
+            reservationRepository.save(r);
+            return true;
+        }));
+    }
+
+    private boolean serviceCreate(Long sessionId, int thread) {
+        try {
+            reservationService.create(req(sessionId, thread));
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private boolean stripedCreate(StripedReservationLock lock, Long sessionId, int thread) {
+        try {
+            tx.executeWithoutResult(status -> {
+                lock.acquire(sessionId);
+                reservationService.create(req(sessionId, thread));
+            });
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private boolean batchedCreate(ReservationBatcher batcher, Long sessionId, int thread) {
+        try {
+            batcher.create(req(sessionId, thread));
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private long oversold(Long sessionId) {
+        long reserved = reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
+        return Math.max(reserved - CAPACITY, 0);
+    }
+
+    @Test
+    void hotSession() throws Exception {
+        List<String> rows = new ArrayList<>();
+        StripedReservationLock striped = new StripedReservationLock(1024);
+
+        Long legacy = seedSession().getId();
+        var r1 = BenchmarkHarness.run("sum-then-insert", THREADS, ITERATIONS, (t, i) -> legacyCreate(legacy, t));
+        rows.add(r1.row() + String.format(" %9d", oversold(legacy)));
+
+        Long counter = seedSession().getId();
+        var r2 = BenchmarkHarness.run("conditional-counter", THREADS, ITERATIONS, (t, i) -> serviceCreate(counter, t));
+        rows.add(r2.row() + String.format(" %9d", oversold(counter)));
+
+        Long stripedSession = seedSession().getId();
+        var r3 = BenchmarkHarness.run("striped-lock+counter", THREADS, ITERATIONS, (t, i) -> stripedCreate(striped, stripedSession, t));
+        rows.add(r3.row() + String.format(" %9d", oversold(stripedSession)));
+
+        ReservationBatcher batcher = new ReservationBatcher(reservationService, true, 5, 64, 4, 10_000);
+        Long batchedSession = seedSession().getId();
+        var r4 = BenchmarkHarness.run("group-commit", THREADS, ITERATIONS, (t, i) -> batchedCreate(batcher, batchedSession, t));
+        rows.add(r4.row() + String.format(" %9d", oversold(batchedSession)));
+
+        System.out.println(BenchmarkHarness.Result.header() + String.format(" %9s", "oversold"));
+        rows.forEach(System.out::println);
+
+        assertEquals(0, oversold(counter));
+        assertEquals(0, oversold(stripedSession));
+        assertEquals(0, oversold(batchedSession));
+    }
+}
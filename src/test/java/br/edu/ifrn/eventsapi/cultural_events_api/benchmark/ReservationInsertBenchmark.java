@@ -0,0 +1,147 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.benchmark;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Insert throughput of reservations with identity ids versus pooled sequence
+ * ids. The identity row replays what Hibernate issues for
+ * {@code GenerationType.IDENTITY}: one {@code insert ... returning id} round
+ * trip per entity, never batched. The sequence row goes through
+ * {@code ReservationRepository.saveAll}, which now batches the inserts.
+ * Not part of the regular suite; run with {@code mvn test -Dtest=ReservationInsertBenchmark}
+ * and tune with {@code -Dbench.rows} and {@code -Dbench.chunk} (rows per transaction).
+ */
+@SpringBootTest
+class ReservationInsertBenchmark extends IntegrationTestBase {
+
+    static final int ROWS = Integer.getInteger("bench.rows", 100_000);
+    static final int CHUNK = Integer.getInteger("bench.chunk", 1000);
+    static final int WARMUP_CHUNKS = 5;
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired TransactionTemplate tx;
+
+    @Autowired CustomerTicketCountRepository customerTicketCountRepository;
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() {
+        jdbc.execute("drop table if exists bench_identity_reservations");
+        jdbc.execute("truncate reservations, sessions, venues, events, customer_ticket_counts");
+    }
+
+    private Session seedSession() {
+        Event e = eventRepository.save(Event.builder()
+                .title("Benchmark")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Arena")
+                .address("IFRN")
+                .capacity(ROWS)
+                .build());
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.TEN)
+                .build());
+    }
+
+    private Reservation reservation(Session session, int n) {
+        return Reservation.builder()
+                .session(session)
+                .customerName("Cliente " + n)
+                .customerEmail("cliente" + n + "@ifrn.edu.br")
+                .quantity(1)
+                .status(ReservationStatus.ACTIVE)
+                .code(UuidV7.randomUuid())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private boolean identityChunk(Session session, int chunk) {
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < CHUNK; i++) {
+                Reservation r = reservation(session, chunk * CHUNK + i);
+                jdbc.update(con -> {
+                    PreparedStatement ps = con.prepareStatement("""
+                            insert into bench_identity_reservations
+                                (session_id, customer_name, customer_email, quantity, status, code, created_at)
+                            values (?, ?, ?, ?, ?, ?, ?)
+                            """, new String[]{"id"});
+                    ps.setLong(1, r.getSession().getId());
+                    ps.setString(2, r.getCustomerName());
+                    ps.setString(3, r.getCustomerEmail());
+                    ps.setInt(4, r.getQuantity());
+                    ps.setString(5, r.getStatus().name());
+                    ps.setObject(6, r.getCode());
+                    ps.setTimestamp(7, Timestamp.valueOf(r.getCreatedAt()));
+                    return ps;
+                }, new GeneratedKeyHolder());
+            }
+        });
+        return true;
+    }
+
+    private boolean sequenceChunk(Session session, int chunk) {
+        tx.executeWithoutResult(status -> {
+            List<Reservation> rows = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) rows.add(reservation(session, chunk * CHUNK + i));
+            reservationRepository.saveAll(rows);
+        });
+        return true;
+    }
+
+    @Test
+    void idGeneration() throws Exception {
+        Session session = seedSession();
+        int chunks = ROWS / CHUNK;
+
+        jdbc.execute("create table bench_identity_reservations (like reservations including all)");
+        jdbc.execute("alter table bench_identity_reservations alter column id drop default");
+        jdbc.execute("alter table bench_identity_reservations alter column id add generated by default as identity");
+
+        for (int i = 0; i < WARMUP_CHUNKS; i++) {
+            identityChunk(session, chunks + i);
+            sequenceChunk(session, chunks + i);
+        }
+        jdbc.execute("truncate bench_identity_reservations");
+        jdbc.execute("delete from reservations");
+
+        var identity = BenchmarkHarness.run("identity (row by row)", 1, chunks, (t, i) -> identityChunk(session, i));
+        var sequence = BenchmarkHarness.run("pooled sequence + batch", 1, chunks, (t, i) -> sequenceChunk(session, i));
+
+        System.out.println(BenchmarkHarness.Result.header() + String.format(" %10s", "rows/s"));
+        System.out.println(identity.row() + String.format(" %10.1f", identity.acceptedPerSecond() * CHUNK));
+        System.out.println(sequence.row() + String.format(" %10.1f", sequence.acceptedPerSecond() * CHUNK));
+
+        assertEquals((long) chunks * CHUNK, reservationRepository.count());
+    }
+}
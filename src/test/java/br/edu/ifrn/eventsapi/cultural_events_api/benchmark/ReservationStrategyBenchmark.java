@@ -0,0 +1,232 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.benchmark;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationCodeGenerator;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the booking strategies behind {@code ReservationService.create}
+ * across thread counts and session skew. Each run books one seat at a time
+ * on {@code bench.sessions} fresh sessions picked with a Zipf distribution
+ * ({@code 0} = uniform, higher = a few hot sessions).
+ * Not part of the regular suite; run with {@code mvn test -Dtest=ReservationStrategyBenchmark}
+ * and tune with {@code -Dbench.threads=8,32,64}, {@code -Dbench.skews=0,1.2},
+ * {@code -Dbench.sessions}, {@code -Dbench.iterations} and {@code -Dbench.capacity}.
+ */
+@SpringBootTest
+class ReservationStrategyBenchmark extends IntegrationTestBase {
+
+    static final int[] THREADS = Arrays.stream(System.getProperty("bench.threads", "8,32").split(","))
+            .mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    static final double[] SKEWS = Arrays.stream(System.getProperty("bench.skews", "0,1.2").split(","))
+            .mapToDouble(s -> Double.parseDouble(s.trim())).toArray();
+    static final int SESSIONS = Integer.getInteger("bench.sessions", 8);
+    static final int ITERATIONS = Integer.getInteger("bench.iterations", 50);
+    static final int CAPACITY = Integer.getInteger("bench.capacity", 100);
+    static final int MAX_RETRIES = Integer.getInteger("bench.max-retries", 20);
+
+    @FunctionalInterface
+    interface Strategy {
+        boolean book(Long sessionId, int thread);
+    }
+
+    @Autowired ReservationService reservationService;
+    @Autowired ReservationCodeGenerator codeGenerator;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired TransactionTemplate tx;
+    @Autowired EntityManager entityManager;
+    @Autowired JdbcTemplate jdbc;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired CustomerTicketCountRepository customerTicketCountRepository;
+
+    private final LongAdder retries = new LongAdder();
+
+    @BeforeEach
+    void setup() {
+        customerTicketCountRepository.deleteAll();
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    private List<Long> seedSessions() {
+        Event e = eventRepository.save(Event.builder()
+                .title("Benchmark")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Arena")
+                .address("IFRN")
+                .capacity(CAPACITY)
+                .build());
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            ids.add(sessionRepository.save(Session.builder()
+                    .event(e)
+                    .venue(v)
+                    .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0).plusDays(i))
+                    .price(BigDecimal.TEN)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    /** Cumulative Zipf weights: session {@code i} is picked with probability proportional to {@code 1 / (i + 1)^skew}. */
+    private static double[] zipf(int n, double skew) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) cdf[i] /= sum;
+        return cdf;
+    }
+
+    private static int pick(double[] cdf) {
+        int idx = Arrays.binarySearch(cdf, ThreadLocalRandom.current().nextDouble());
+        return Math.min(idx >= 0 ? idx : -idx - 1, cdf.length - 1);
+    }
+
+    private boolean sumThenInsert(Long sessionId, int thread) {
+        Session s = entityManager.find(Session.class, sessionId);
+        long reserved = reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
+        if (1 > s.getVenue().getCapacity() - reserved) return false;
+
+        Reservation r = new Reservation();
+        r.setSession(s);
+        r.setCustomerName("Cliente " + thread);
+        r.setCustomerEmail("cliente" + thread + "@ifrn.edu.br");
+        r.setQuantity(1);
+        r.setStatus(ReservationStatus.ACTIVE);
+        r.setCode(codeGenerator.next());
+        reservationRepository.save(r);
+        return true;
+    }
+
+    private boolean legacy(Long sessionId, int thread) {
+        return Boolean.TRUE.equals(tx.execute(status -> sumThenInsert(sessionId, thread)));
+    }
+
+    private boolean selectForUpdate(Long sessionId, int thread) {
+        return Boolean.TRUE.equals(tx.execute(status -> {
+            entityManager.find(Session.class, sessionId, LockModeType.PESSIMISTIC_WRITE);
+            return sumThenInsert(sessionId, thread);
+        }));
+    }
+
+    private boolean advisoryLock(Long sessionId, int thread) {
+        return Boolean.TRUE.equals(tx.execute(status -> {
+            jdbc.queryForList("select pg_advisory_xact_lock(?)", sessionId);
+            return sumThenInsert(sessionId, thread);
+        }));
+    }
+
+    private boolean serializable(TransactionTemplate serializable, Long sessionId, int thread) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return Boolean.TRUE.equals(serializable.execute(status -> sumThenInsert(sessionId, thread)));
+            } catch (RuntimeException ex) {
+                if (attempt == MAX_RETRIES || !isSerializationFailure(ex)) throw ex;
+                retries.increment();
+            }
+        }
+    }
+
+    private boolean conditionalCounter(Long sessionId, int thread) {
+        try {
+            reservationService.create(new ReservationCreateRequest(
+                    sessionId, "Cliente " + thread, "cliente" + thread + "@ifrn.edu.br", 1));
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isSerializationFailure(Throwable ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && ("40001".equals(sql.getSQLState()) || "40P01".equals(sql.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long oversold(List<Long> sessionIds) {
+        long oversold = 0;
+        for (Long id : sessionIds) {
+            long reserved = reservationRepository.sumQuantityBySessionAndStatus(id, ReservationStatus.ACTIVE);
+            oversold += Math.max(reserved - CAPACITY, 0);
+        }
+        return oversold;
+    }
+
+    @Test
+    void strategies() throws Exception {
+        TransactionTemplate serializable = new TransactionTemplate(transactionManager);
+        serializable.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+
+        Map<String, Strategy> strategies = new LinkedHashMap<>();
+        strategies.put("sum-then-insert", this::legacy);
+        strategies.put("select-for-update", this::selectForUpdate);
+        strategies.put("advisory-lock", this::advisoryLock);
+        strategies.put("serializable-retry", (id, t) -> serializable(serializable, id, t));
+        strategies.put("conditional-counter", this::conditionalCounter);
+
+        List<String> unsafe = new ArrayList<>();
+        for (double skew : SKEWS) {
+            double[] cdf = zipf(SESSIONS, skew);
+            System.out.printf("%nsessions=%d capacity=%d skew=%.2f%n", SESSIONS, CAPACITY, skew);
+            System.out.println(BenchmarkHarness.Result.header() + String.format(" %9s %9s", "retries", "oversold"));
+
+            for (int threads : THREADS) {
+                for (var strategy : strategies.entrySet()) {
+                    List<Long> sessionIds = seedSessions();
+                    retries.reset();
+                    var result = BenchmarkHarness.run(strategy.getKey(), threads, ITERATIONS,
+                            (t, i) -> strategy.getValue().book(sessionIds.get(pick(cdf)), t));
+                    long oversold = oversold(sessionIds);
+                    System.out.println(result.row() + String.format(" %9d %9d", retries.sum(), oversold));
+                    if (oversold > 0 && !strategy.getKey().equals("sum-then-insert")) {
+                        unsafe.add(strategy.getKey() + " threads=" + threads + " skew=" + skew);
+                    }
+                }
+            }
+        }
+
+        assertEquals(List.of(), unsafe);
+    }
+}
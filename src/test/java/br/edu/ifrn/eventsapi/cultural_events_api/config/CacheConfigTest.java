@@ -0,0 +1,85 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private final CacheProperties props = new CacheProperties(
+            new CacheProperties.Spec(100L, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+            Map.of("sessions_by_event", new CacheProperties.Spec(2L, null, null))
+    );
+
+    private Cache<Object, Object> nativeCache(CacheManager manager, String name) {
+        return ((CaffeineCache) manager.getCache(name)).getNativeCache();
+    }
+
+    @Test
+    @DisplayName("cache configurado deve usar o próprio tamanho e herdar a expiração padrão")
+    void configuredCache_mergesWithDefaults() {
+        CacheManager manager = new CacheConfig().cacheManager(props);
+
+        assertTrue(manager.getCacheNames().contains("sessions_by_event"));
+        var policy = nativeCache(manager, "sessions_by_event").policy();
+        assertEquals(2, policy.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(10), policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    @DisplayName("cache não configurado deve ser criado com os valores padrão")
+    void unknownCache_usesDefaults() {
+        CacheManager manager = new CacheConfig().cacheManager(props);
+
+        var policy = nativeCache(manager, "outro_cache").policy();
+        assertEquals(100, policy.eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    @DisplayName("padrão parcial deve completar os campos omitidos com os valores embutidos")
+    void partialDefaults_mergeWithBuiltIn() {
+        var partial = new CacheProperties(new CacheProperties.Spec(50L, null, null), null);
+
+        assertEquals(new CacheProperties.Spec(50L, Duration.ofMinutes(10), Duration.ofSeconds(5)), partial.defaults());
+        var policy = nativeCache(new CacheConfig().cacheManager(partial), "outro_cache").policy();
+        assertEquals(50, policy.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(10), policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    @DisplayName("todos os caches devem coalescer cargas simultâneas")
+    void caches_areSingleFlight() {
+        CacheManager manager = new CacheConfig().cacheManager(props);
+
+        assertInstanceOf(SingleFlightCaffeineCache.class, manager.getCache("sessions_by_event"));
+        assertInstanceOf(SingleFlightCaffeineCache.class, manager.getCache("outro_cache"));
+    }
+
+    @Test
+    @DisplayName("cache cheio deve despejar entradas e contar acertos, falhas e despejos")
+    void boundedCache_evictsAndRecordsStats() {
+        CacheManager manager = new CacheConfig().cacheManager(props);
+        var cache = manager.getCache("sessions_by_event");
+
+        for (long eventId = 1; eventId <= 10; eventId++) {
+            cache.put(eventId, "sessões " + eventId);
+        }
+        cache.get(10L);
+        cache.get(999L);
+        Cache<Object, Object> nativeCache = nativeCache(manager, "sessions_by_event");
+        nativeCache.cleanUp();
+
+        assertEquals(2, nativeCache.estimatedSize());
+        var stats = nativeCache.stats();
+        assertEquals(8, stats.evictionCount());
+        assertEquals(2, stats.requestCount());
+        assertTrue(stats.missCount() >= 1);
+    }
+}
@@ -0,0 +1,160 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.config;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.CacheLoadTimeoutException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCaffeineCacheTest {
+
+    private static final int THREADS = 8;
+
+    private SingleFlightCaffeineCache cache(Duration loadTimeout) {
+        return new SingleFlightCaffeineCache("test", Caffeine.newBuilder().build(), true, loadTimeout);
+    }
+
+    private List<Future<Object>> concurrentGets(Cache cache, Object key, Callable<Object> loader,
+                                                ExecutorService pool) throws InterruptedException {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> {
+                ready.countDown();
+                return cache.get(key, loader);
+            }));
+        }
+        assertTrue(ready.await(5, TimeUnit.SECONDS));
+        return results;
+    }
+
+    @Test
+    @DisplayName("falhas simultâneas na mesma chave devem executar o carregador uma única vez")
+    void concurrentMisses_shareOneLoad() throws Exception {
+        SingleFlightCaffeineCache cache = cache(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            var results = concurrentGets(cache, "k", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "valor";
+            }, pool);
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Object> r : results) {
+                assertEquals("valor", r.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals("valor", cache.get("k").get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("erro no carregador deve chegar a todos que esperavam e não deve ser cacheado")
+    void failedLoad_propagatesToWaiters() throws Exception {
+        SingleFlightCaffeineCache cache = cache(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            var results = concurrentGets(cache, "k", () -> {
+                loads.incrementAndGet();
+                release.await();
+                throw new IllegalStateException("banco fora do ar");
+            }, pool);
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<Object> r : results) {
+                var ex = assertThrows(ExecutionException.class, () -> r.get(5, TimeUnit.SECONDS));
+                var retrieval = assertInstanceOf(Cache.ValueRetrievalException.class, ex.getCause());
+                assertInstanceOf(IllegalStateException.class, retrieval.getCause());
+            }
+            assertEquals(1, loads.get());
+            assertNull(cache.get("k"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("quem espera além do timeout deve receber CacheLoadTimeoutException")
+    void slowLoad_timesOutWaiters() throws Exception {
+        SingleFlightCaffeineCache cache = cache(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> owner = pool.submit(() -> cache.get("k", () -> {
+                loading.countDown();
+                release.await();
+                return "valor";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            var ex = assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("k", () -> "outro"));
+            assertInstanceOf(CacheLoadTimeoutException.class, ex.getCause());
+
+            release.countDown();
+            assertEquals("valor", owner.get(5, TimeUnit.SECONDS));
+            assertEquals("valor", cache.get("k").get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("evict durante o carregamento não deve ser sobrescrito pelo valor carregado")
+    void evictDuringLoad_isNotOverwritten() throws Exception {
+        SingleFlightCaffeineCache cache = cache(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> owner = pool.submit(() -> cache.get("k", () -> {
+                loading.countDown();
+                release.await();
+                return "antigo";
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<?> evict = pool.submit(() -> cache.evict("k"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("antigo", owner.get(5, TimeUnit.SECONDS));
+            evict.get(5, TimeUnit.SECONDS);
+            assertNull(cache.get("k"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("chaves diferentes devem carregar de forma independente")
+    void differentKeys_loadIndependently() {
+        SingleFlightCaffeineCache cache = cache(Duration.ofSeconds(5));
+
+        assertEquals("a", cache.get("k1", () -> "a"));
+        assertEquals("b", cache.get("k2", () -> "b"));
+        assertEquals("a", cache.get("k1", () -> "x"));
+    }
+}
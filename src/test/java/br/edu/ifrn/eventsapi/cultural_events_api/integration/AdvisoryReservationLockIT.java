@@ -0,0 +1,139 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationLock;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "reservations.lock.mode=advisory")
+@AutoConfigureMockMvc
+class AdvisoryReservationLockIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+    @Autowired ReservationLock reservationLock;
+    @Autowired ReservationService reservationService;
+    @Autowired TransactionTemplate tx;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Autowired CustomerTicketCountRepository customerTicketCountRepository;
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        customerTicketCountRepository.deleteAll();
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(Role role) {
+        String email = role.name().toLowerCase() + "@ifrn.edu.br";
+        userRepository.save(User.builder()
+                .name(role.name())
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(role)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    private Session seedSession(int capacity) {
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    @Test
+    void create_shouldWaitForAnotherTransactionHoldingTheSessionLock() throws Exception {
+        Long sessionId = seedSession(10).getId();
+        double contendedBefore = meterRegistry.counter("reservations.lock.contended", "mode", "advisory").count();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> tx.executeWithoutResult(status -> {
+            reservationLock.acquire(sessionId);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Long> booking = CompletableFuture.supplyAsync(() -> reservationService.create(
+                new ReservationCreateRequest(sessionId, "Cliente 1", "cliente@ifrn.edu.br", 2)).id());
+        Thread.sleep(300);
+        assertFalse(booking.isDone());
+        assertEquals(10, sessionRepository.findSeatsById(sessionId).orElseThrow().getCapacity());
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertNotNull(booking.get(5, TimeUnit.SECONDS));
+        assertEquals(2, sessionRepository.findSeatsById(sessionId).orElseThrow().getReservedSeats());
+        assertEquals(contendedBefore + 1,
+                meterRegistry.counter("reservations.lock.contended", "mode", "advisory").count());
+    }
+
+    @Test
+    void lockMetrics_shouldBeVisibleToAdminsOnly() throws Exception {
+        Long sessionId = seedSession(10).getId();
+        reservationService.create(new ReservationCreateRequest(sessionId, "Cliente 1", "cliente@ifrn.edu.br", 1));
+
+        mvc.perform(get("/actuator/metrics/reservations.lock.wait").header("Authorization", bearer(Role.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[*].tag", hasItem("mode")));
+
+        mvc.perform(get("/actuator/metrics/reservations.lock.wait").header("Authorization", bearer(Role.USER)))
+                .andExpect(status().isForbidden());
+    }
+}
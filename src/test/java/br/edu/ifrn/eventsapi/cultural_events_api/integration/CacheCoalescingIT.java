@@ -0,0 +1,142 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.EventResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SessionResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Event;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Session;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Venue;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.VenueRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.EventService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.SessionService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+class CacheCoalescingIT extends IntegrationTestBase {
+
+    private static final int THREADS = 16;
+
+    @Autowired EventService eventService;
+    @Autowired SessionService sessionService;
+    @Autowired CacheManager cacheManager;
+
+    @SpyBean EventRepository eventRepository;
+    @SpyBean SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired ReservationRepository reservationRepository;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        clearInvocations(eventRepository, sessionRepository);
+        release = new CountDownLatch(1);
+    }
+
+    private Event seedEvent() {
+        return eventRepository.save(Event.builder()
+                .title("Festival")
+                .description("Desc")
+                .category("Música")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+    }
+
+    /** Blocks the spied query until {@link #release} opens, then runs the real repository method. */
+    private Answer<Object> heldUntilRelease(Object spy) {
+        Answer<?> real = mockingDetails(spy).getMockCreationSettings().getDefaultAnswer();
+        return inv -> {
+            release.await();
+            return real.answer(inv);
+        };
+    }
+
+    /** Fires THREADS concurrent misses, holding the first query until all of them are waiting. */
+    private <T> List<T> concurrentMisses(Callable<T> read) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> {
+                    ready.countDown();
+                    return read.call();
+                }));
+            }
+            assertTrue(ready.await(5, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            release.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> f : futures) {
+                results.add(f.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void eventsList_concurrentMissesShouldRunOneQuery() throws Exception {
+        seedEvent();
+        seedEvent();
+        clearInvocations(eventRepository);
+        doAnswer(heldUntilRelease(eventRepository)).when(eventRepository).findAll();
+
+        List<List<EventResponse>> results = concurrentMisses(eventService::list);
+
+        verify(eventRepository, times(1)).findAll();
+        results.forEach(r -> assertEquals(2, r.size()));
+    }
+
+    @Test
+    void sessionsByEvent_concurrentMissesShouldRunOneQueryPerKey() throws Exception {
+        Event event = seedEvent();
+        Venue venue = venueRepository.save(Venue.builder().name("Auditório").address("IFRN").capacity(100).build());
+        sessionRepository.save(Session.builder()
+                .event(event)
+                .venue(venue)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+        clearInvocations(sessionRepository);
+        doAnswer(heldUntilRelease(sessionRepository)).when(sessionRepository).findByEventId(anyLong());
+
+        List<List<SessionResponse>> results = concurrentMisses(() -> sessionService.listByEvent(event.getId()));
+
+        verify(sessionRepository, times(1)).findByEventId(event.getId());
+        results.forEach(r -> assertEquals(1, r.size()));
+    }
+}
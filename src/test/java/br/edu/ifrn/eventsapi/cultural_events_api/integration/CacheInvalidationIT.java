@@ -0,0 +1,179 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.SessionCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Event;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Role;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Session;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.User;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.Venue;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.UserRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.VenueRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+class CacheInvalidationIT extends IntegrationTestBase {
+
+    private static final int READS = 200;
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired CacheManager cacheManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @Autowired SessionRepository sessionRepository;
+    @Autowired EventRepository eventRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired ReservationRepository reservationRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    private String adminBearer() {
+        userRepository.save(User.builder()
+                .name("ADMIN")
+                .email("admin@ifrn.edu.br")
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(Role.ADMIN)
+                .build());
+        return "Bearer " + jwtService.generateToken("admin@ifrn.edu.br", Map.of());
+    }
+
+    private Event seedEvent(String title) {
+        return eventRepository.save(Event.builder()
+                .title(title)
+                .description("Desc")
+                .category("Música")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+    }
+
+    private Session seedSession(Event event, Venue venue, int day) {
+        return sessionRepository.save(Session.builder()
+                .event(event)
+                .venue(venue)
+                .startsAt(LocalDateTime.of(2026, 2, day, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    private void readAll(Long sessionId, Long fromEventId, Long toEventId) throws Exception {
+        mvc.perform(get("/api/v1/sessions/{id}", sessionId)).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/sessions").param("eventId", fromEventId.toString())).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/sessions").param("eventId", toEventId.toString())).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/sessions")).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/events/{id}", fromEventId)).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/events")).andExpect(status().isOk());
+        mvc.perform(get("/api/v1/venues")).andExpect(status().isOk());
+    }
+
+    @Test
+    void sessionMove_shouldPatchCachedListsWithoutHittingTheDatabase() throws Exception {
+        String auth = adminBearer();
+        Event from = seedEvent("Festival");
+        Event to = seedEvent("Mostra");
+        Venue venue = venueRepository.save(Venue.builder().name("Auditório").address("IFRN").capacity(100).build());
+        Session moved = seedSession(from, venue, 10);
+        Session stays = seedSession(from, venue, 11);
+        seedSession(to, venue, 12);
+
+        readAll(moved.getId(), from.getId(), to.getId());
+
+        var req = new SessionCreateRequest(to.getId(), venue.getId(), LocalDateTime.of(2026, 2, 13, 20, 0), BigDecimal.valueOf(80));
+        mvc.perform(put("/api/v1/sessions/{id}", moved.getId())
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        for (int i = 0; i < READS; i++) {
+            readAll(moved.getId(), from.getId(), to.getId());
+        }
+
+        assertEquals(0, stats.getPrepareStatementCount(), "reads after the write should be served from cache");
+
+        mvc.perform(get("/api/v1/sessions/{id}", moved.getId()))
+                .andExpect(jsonPath("$.eventId").value(to.getId()))
+                .andExpect(jsonPath("$.price").value(80));
+        mvc.perform(get("/api/v1/sessions").param("eventId", from.getId().toString()))
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(stays.getId()));
+        mvc.perform(get("/api/v1/sessions").param("eventId", to.getId().toString()))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].id", hasItem(moved.getId().intValue())));
+        mvc.perform(get("/api/v1/sessions"))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[?(@.id == " + moved.getId() + ")].eventId", contains(to.getId().intValue())));
+    }
+
+    @Test
+    void sessionDelete_shouldDropItFromCachedLists() throws Exception {
+        String auth = adminBearer();
+        Event event = seedEvent("Festival");
+        Venue venue = venueRepository.save(Venue.builder().name("Auditório").address("IFRN").capacity(100).build());
+        Session gone = seedSession(event, venue, 10);
+        seedSession(event, venue, 11);
+
+        readAll(gone.getId(), event.getId(), event.getId());
+
+        mvc.perform(delete("/api/v1/sessions/{id}", gone.getId()).header("Authorization", auth))
+                .andExpect(status().is2xxSuccessful());
+
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        mvc.perform(get("/api/v1/sessions").param("eventId", event.getId().toString()))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mvc.perform(get("/api/v1/sessions"))
+                .andExpect(jsonPath("$", hasSize(1)));
+        mvc.perform(get("/api/v1/events")).andExpect(jsonPath("$", hasSize(1)));
+
+        assertEquals(0, stats.getPrepareStatementCount());
+        mvc.perform(get("/api/v1/sessions/{id}", gone.getId())).andExpect(status().isNotFound());
+    }
+}
@@ -15,14 +15,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +44,7 @@ class EventControllerIT extends IntegrationTestBase {
     @Autowired UserRepository userRepository;
     @Autowired PasswordEncoder passwordEncoder;
     @Autowired JwtService jwtService;
+    @Autowired CacheManager cacheManager;
 
     @BeforeEach
     void setup() {
@@ -66,7 +71,8 @@ class EventControllerIT extends IntegrationTestBase {
                 "Show e atrações",
                 "Música",
                 LocalDate.of(2026, 2, 10),
-                LocalDate.of(2026, 2, 11)
+                LocalDate.of(2026, 2, 11),
+                null
         );
     }
 
@@ -125,7 +131,8 @@ class EventControllerIT extends IntegrationTestBase {
                 "Descrição nova",
                 "Cultura",
                 LocalDate.of(2026, 3, 1),
-                LocalDate.of(2026, 3, 2)
+                LocalDate.of(2026, 3, 2),
+                4
         );
 
         mvc.perform(put("/api/v1/events/{id}", id)
@@ -138,7 +145,8 @@ class EventControllerIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.description").value("Descrição nova"))
                 .andExpect(jsonPath("$.category").value("Cultura"))
                 .andExpect(jsonPath("$.startDate").value("2026-03-01"))
-                .andExpect(jsonPath("$.endDate").value("2026-03-02"));
+                .andExpect(jsonPath("$.endDate").value("2026-03-02"))
+                .andExpect(jsonPath("$.maxTicketsPerCustomer").value(4));
 
         mvc.perform(delete("/api/v1/events/{id}", id)
                         .header("Authorization", auth))
@@ -157,7 +165,8 @@ class EventControllerIT extends IntegrationTestBase {
                 null,
                 null,
                 LocalDate.of(2026, 2, 10),
-                LocalDate.of(2026, 2, 11)
+                LocalDate.of(2026, 2, 11),
+                null
         );
 
         mvc.perform(put("/api/v1/events/{id}", 999L)
@@ -168,4 +177,32 @@ class EventControllerIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.title").value("Not Found"))
                 .andExpect(jsonPath("$.detail", containsString("Event not found: 999")));
     }
+
+    @Test
+    void getById_shouldServeRepeatedReadsFromCacheAndExposeHits() throws Exception {
+        String admin = bearer(Role.ADMIN);
+        String created = mvc.perform(post("/api/v1/events")
+                        .header("Authorization", admin)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createReq())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long id = objectMapper.readTree(created).get("id").asLong();
+
+        mvc.perform(get("/api/v1/events/{id}", id)).andExpect(status().isOk());
+        eventRepository.deleteById(id);
+        mvc.perform(get("/api/v1/events/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+
+        mvc.perform(get("/actuator/metrics/cache.gets")
+                        .header("Authorization", admin)
+                        .param("tag", "cache:events_by_id", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value", greaterThanOrEqualTo(1.0)));
+
+        var policy = ((CaffeineCache) cacheManager.getCache("events_list")).getNativeCache().policy();
+        assertEquals(1, policy.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(1), policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
 }
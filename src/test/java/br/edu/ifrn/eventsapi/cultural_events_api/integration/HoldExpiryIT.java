@@ -0,0 +1,97 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.HoldExpiryTimer;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "reservations.holds.ttl=PT0.3S",
+        "reservations.holds.tick-ms=20"
+})
+class HoldExpiryIT extends IntegrationTestBase {
+
+    @Autowired ReservationService reservationService;
+    @Autowired HoldExpiryTimer holdExpiryTimer;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+    }
+
+    private Session seedSession(int capacity) {
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    private void awaitNoPendingHolds() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (holdExpiryTimer.pendingHolds() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(100);
+    }
+
+    @Test
+    void hold_shouldExpireAndReleaseSeats() throws Exception {
+        Session s = seedSession(5);
+
+        var held = reservationService.hold(new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 5));
+        assertEquals(0L, reservationService.availability(s.getId()).available());
+
+        awaitNoPendingHolds();
+
+        assertEquals(ReservationStatus.CANCELED, reservationService.get(held.id()).status());
+        assertEquals(5L, reservationService.availability(s.getId()).available());
+    }
+
+    @Test
+    void confirmedHold_shouldNotExpire() throws Exception {
+        Session s = seedSession(5);
+
+        var held = reservationService.hold(new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 2));
+        reservationService.confirm(held.id());
+
+        awaitNoPendingHolds();
+        Thread.sleep(400);
+
+        assertEquals(ReservationStatus.ACTIVE, reservationService.get(held.id()).status());
+        assertEquals(3L, reservationService.availability(s.getId()).available());
+    }
+}
@@ -0,0 +1,236 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.BulkCancellationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.CheckInService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Plans of the hot reservation queries on a seeded dataset. The statements are
+ * the ones the repositories and services really send, captured while calling
+ * them, and are explained as generic plans: the plan a prepared statement
+ * settles on once the driver caches it, where every bind parameter is unknown.
+ * Fails when one of them falls back to a sequential scan, i.e. when a
+ * migration drops or breaks the index it relies on.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "br.edu.ifrn.eventsapi.cultural_events_api.integration.QueryPlanIT$SqlRecorder")
+class QueryPlanIT extends IntegrationTestBase {
+
+    /** Records the SQL Hibernate prepares. */
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @SpyBean JdbcTemplate jdbc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired BulkCancellationService bulkCancellationService;
+    @Autowired CheckInService checkInService;
+
+    @Value("${spring.datasource.url}") String url;
+    @Value("${spring.datasource.username}") String username;
+    @Value("${spring.datasource.password}") String password;
+
+    private long sessionId;
+    private long eventId;
+    private Map<String, Object> reservation;
+
+    @BeforeEach
+    void seed() {
+        truncate();
+        jdbc.update("""
+                insert into events (title, start_date, end_date)
+                select 'Evento ' || g, date '2026-02-10', date '2026-02-11'
+                from generate_series(1, 500) g
+                """);
+        jdbc.update("insert into venues (name, address, capacity) values ('Arena', 'IFRN', 1000000)");
+        jdbc.update("""
+                insert into sessions (event_id, venue_id, starts_at, price, reserved_seats)
+                select e.id, v.id, timestamp '2026-02-10 19:00' + (g || ' hours')::interval, 50, 0
+                from events e
+                cross join generate_series(1, 10) g
+                cross join (select id from venues limit 1) v
+                """);
+        jdbc.update("""
+                insert into reservations (session_id, customer_name, customer_email, quantity, status, code,
+                                          created_at, expires_at, checked_in_at)
+                select s.id, 'Cliente', 'cliente' || (g % 5000) || '@ifrn.edu.br', 1 + g % 4,
+                       case when g % 100 = 0 then 'HELD' when g % 20 = 0 then 'CANCELED' else 'ACTIVE' end,
+                       gen_random_uuid(),
+                       timestamp '2026-01-01' + (g || ' seconds')::interval,
+                       case when g % 100 = 0 then timestamp '2026-02-01' end,
+                       case when g % 200 = 1 then timestamp '2026-02-10 19:00' end
+                from generate_series(1, 100000) g
+                join (select id, row_number() over (order by id) - 1 as n from sessions) s on s.n = g % 5000
+                """);
+        jdbc.execute("vacuum analyze events, venues, sessions, reservations");
+
+        sessionId = jdbc.queryForObject("select id from sessions order by id offset 42 limit 1", Long.class);
+        eventId = jdbc.queryForObject("select event_id from sessions where id = ?", Long.class, sessionId);
+        reservation = jdbc.queryForMap("""
+                select id, code, customer_email, created_at from reservations
+                where session_id = ? order by id limit 1
+                """, sessionId);
+    }
+
+    @AfterEach
+    void truncate() {
+        jdbc.execute("truncate reservations, sessions, venues, events, customer_ticket_counts");
+    }
+
+    /** Statements Hibernate sent while running {@code call}. */
+    private List<String> hibernateSql(Runnable call) {
+        SqlRecorder.STATEMENTS.clear();
+        call.run();
+        return SqlRecorder.STATEMENTS.stream().distinct().toList();
+    }
+
+    /** Statements on reservations sent through {@link JdbcTemplate} while running {@code call}. */
+    private List<String> jdbcSql(Runnable call) {
+        clearInvocations(jdbc);
+        call.run();
+        return mockingDetails(jdbc).getInvocations().stream()
+                .filter(i -> i.getArguments().length > 0 && i.getArguments()[0] instanceof String)
+                .map(i -> (String) i.getArguments()[0])
+                .filter(sql -> sql.contains("from reservations"))
+                .distinct()
+                .toList();
+    }
+
+    private static String single(List<String> statements) {
+        assertEquals(1, statements.size(), "expected one statement, got " + statements);
+        return statements.get(0);
+    }
+
+    /** JDBC {@code ?} placeholders as {@code $n}, the form EXPLAIN (GENERIC_PLAN) accepts. */
+    private static String numbered(String sql) {
+        StringBuilder out = new StringBuilder();
+        boolean quoted = false;
+        int n = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') quoted = !quoted;
+            if (c == '?' && !quoted) out.append('$').append(++n);
+            else out.append(c);
+        }
+        return out.toString();
+    }
+
+    /** Generic plan over the simple query protocol, so the placeholders reach the server unbound. */
+    private JsonNode plan(String sql) throws Exception {
+        Properties props = new Properties();
+        props.setProperty("user", username);
+        props.setProperty("password", password);
+        props.setProperty("preferQueryMode", "simple");
+        try (Connection c = DriverManager.getConnection(url, props);
+             Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("explain (generic_plan, format json) " + numbered(sql))) {
+            assertTrue(rs.next());
+            return objectMapper.readTree(rs.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> out) {
+        out.add(node);
+        for (JsonNode child : node.path("Plans")) collect(child, out);
+    }
+
+    private List<JsonNode> nodes(String sql) throws Exception {
+        List<JsonNode> out = new ArrayList<>();
+        collect(plan(sql), out);
+        return out;
+    }
+
+    private void assertNoSeqScan(String sql) throws Exception {
+        for (JsonNode node : nodes(sql)) {
+            assertTrue(!"Seq Scan".equals(node.path("Node Type").asText()),
+                    "Seq Scan on " + node.path("Relation Name").asText() + " for: " + sql);
+        }
+    }
+
+    private String indexUsed(String sql) throws Exception {
+        return nodes(sql).stream()
+                .map(n -> n.path("Index Name").asText(null))
+                .filter(n -> n != null)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Test
+    void seatAggregate_shouldBeAnsweredFromTheCoveringIndex() throws Exception {
+        String sql = single(hibernateSql(() ->
+                reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE)));
+
+        assertNoSeqScan(sql);
+        assertEquals("idx_reservations_session_status", indexUsed(sql));
+        assertTrue(nodes(sql).stream().anyMatch(n -> "Index Only Scan".equals(n.path("Node Type").asText())));
+    }
+
+    @Test
+    void reservationQueries_shouldNotSeqScan() throws Exception {
+        String email = (String) reservation.get("customer_email");
+        var createdAt = ((Timestamp) reservation.get("created_at")).toLocalDateTime();
+        long id = ((Number) reservation.get("id")).longValue();
+        UUID code = (UUID) reservation.get("code");
+
+        List<String> queries = new ArrayList<>();
+        queries.add(single(hibernateSql(reservationRepository::findHeld)));
+        queries.add(single(hibernateSql(() -> reservationRepository.findFirstPageByEmail(email, 51))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findPageByEmailBefore(email, createdAt, id, 51))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findFirstPage(51))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findPageBefore(createdAt, id, 51))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findByCode(code))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findByIdempotencyKey("chave"))));
+        queries.add(single(hibernateSql(() -> reservationRepository.findCodesAfter(id, Pageable.ofSize(500)))));
+        queries.add(single(hibernateSql(() -> sessionRepository.findByEventId(eventId))));
+        queries.add(single(hibernateSql(() -> sessionRepository.findIdsByEventId(eventId))));
+        CheckInService checkIn = AopTestUtils.getTargetObject(checkInService);
+        queries.add(single(jdbcSql(() -> ReflectionTestUtils.invokeMethod(checkIn, "rebuild"))));
+        queries.add(single(jdbcSql(() -> bulkCancellationService.cancel(sessionId, null))));
+        queries.add(single(jdbcSql(() -> bulkCancellationService.cancel(null, eventId))));
+
+        for (String sql : queries) {
+            assertNoSeqScan(sql);
+        }
+    }
+}
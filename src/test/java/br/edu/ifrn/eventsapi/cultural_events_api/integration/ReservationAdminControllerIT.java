@@ -0,0 +1,158 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ReservationAdminControllerIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+    @Autowired ReservationService reservationService;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(Role role) {
+        String email = role.name().toLowerCase() + "@ifrn.edu.br";
+        userRepository.save(User.builder()
+                .name(role.name())
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(role)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    private Event seedEvent() {
+        return eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+    }
+
+    private Session seedSession(Event e, int capacity) {
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    private ReservationCreateRequest req(Session s, int qty) {
+        return new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", qty);
+    }
+
+    @Test
+    void cancelBySession_shouldCancelActiveAndHeldAndReleaseSeats() throws Exception {
+        String admin = bearer(Role.ADMIN);
+        Event e = seedEvent();
+        Session s = seedSession(e, 10);
+        Session other = seedSession(e, 10);
+
+        reservationService.create(req(s, 2));
+        reservationService.create(req(s, 3));
+        reservationService.hold(req(s, 1));
+        var canceled = reservationService.create(req(s, 1));
+        reservationService.cancel(canceled.id());
+        reservationService.create(req(other, 4));
+
+        mvc.perform(post("/api/v1/admin/reservations/cancel")
+                        .header("Authorization", admin)
+                        .param("sessionId", s.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.canceled").value(3))
+                .andExpect(jsonPath("$.seatsReleased").value(6))
+                .andExpect(jsonPath("$.codes", hasSize(3)));
+
+        assertEquals(10L, reservationService.availability(s.getId()).available());
+        assertEquals(6L, reservationService.availability(other.getId()).available());
+        assertEquals(0, sessionRepository.findSeatsById(s.getId()).orElseThrow().getReservedSeats());
+    }
+
+    @Test
+    void cancelByEvent_shouldCancelAllSessionsOfEvent() throws Exception {
+        String admin = bearer(Role.ADMIN);
+        Event e = seedEvent();
+        Session a = seedSession(e, 10);
+        Session b = seedSession(e, 10);
+        Session elsewhere = seedSession(seedEvent(), 10);
+
+        reservationService.create(req(a, 2));
+        reservationService.create(req(b, 5));
+        reservationService.create(req(elsewhere, 1));
+
+        mvc.perform(post("/api/v1/admin/reservations/cancel")
+                        .header("Authorization", admin)
+                        .param("eventId", e.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.canceled").value(2))
+                .andExpect(jsonPath("$.seatsReleased").value(7));
+
+        assertEquals(10L, reservationService.availability(a.getId()).available());
+        assertEquals(10L, reservationService.availability(b.getId()).available());
+        assertEquals(9L, reservationService.availability(elsewhere.getId()).available());
+    }
+
+    @Test
+    void cancel_shouldRequireAdminAndValidateParams() throws Exception {
+        String organizer = bearer(Role.ORGANIZER);
+        String admin = bearer(Role.ADMIN);
+
+        mvc.perform(post("/api/v1/admin/reservations/cancel")
+                        .header("Authorization", organizer)
+                        .param("sessionId", "1"))
+                .andExpect(status().isForbidden());
+        mvc.perform(post("/api/v1/admin/reservations/cancel")
+                        .header("Authorization", admin))
+                .andExpect(status().isBadRequest());
+        mvc.perform(post("/api/v1/admin/reservations/cancel")
+                        .header("Authorization", admin)
+                        .param("sessionId", "999999"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,9 +1,12 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.integration;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartCheckoutRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartLineRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
 import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.TicketCodeIndex;
 import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,14 +17,25 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,9 +54,12 @@ class ReservationControllerIT extends IntegrationTestBase {
     @Autowired UserRepository userRepository;
     @Autowired PasswordEncoder passwordEncoder;
     @Autowired JwtService jwtService;
+    @Autowired TicketCodeIndex ticketCodeIndex;
+    @Autowired CustomerTicketCountRepository customerTicketCountRepository;
 
     @BeforeEach
     void setup() {
+        customerTicketCountRepository.deleteAll();
         reservationRepository.deleteAll();
         sessionRepository.deleteAll();
         venueRepository.deleteAll();
@@ -157,6 +174,350 @@ class ReservationControllerIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.available").value(10));
     }
 
+    @Test
+    void hold_confirm_flow() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(10);
+
+        var holdReq = new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 4);
+
+        String heldJson = mvc.perform(post("/api/v1/reservations/holds")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(holdReq)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value(ReservationStatus.HELD.name()))
+                .andExpect(jsonPath("$.expiresAt", not(emptyOrNullString())))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Long reservationId = objectMapper.readTree(heldJson).get("id").asLong();
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", s.getId())
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservedActive").value(4))
+                .andExpect(jsonPath("$.available").value(6));
+
+        mvc.perform(post("/api/v1/reservations/{id}/confirm", reservationId)
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(ReservationStatus.ACTIVE.name()))
+                .andExpect(jsonPath("$.expiresAt").doesNotExist());
+
+        mvc.perform(post("/api/v1/reservations/{id}/confirm", reservationId)
+                        .header("Authorization", auth))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Reservation is not held: " + reservationId));
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", s.getId())
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(6));
+    }
+
+    @Test
+    void availability_many_shouldAnswerInRequestOrder() throws Exception {
+        String auth = bearer(Role.USER);
+        Session a = seedSession(10);
+        Session b = seedSession(20);
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(b.getId(), "Cliente 1", "cliente@ifrn.edu.br", 5))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/api/v1/reservations/availability")
+                        .header("Authorization", auth)
+                        .param("sessionIds", b.getId() + "," + a.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].sessionId").value(b.getId()))
+                .andExpect(jsonPath("$[0].capacity").value(20))
+                .andExpect(jsonPath("$[0].available").value(15))
+                .andExpect(jsonPath("$[1].sessionId").value(a.getId()))
+                .andExpect(jsonPath("$[1].available").value(10));
+
+        mvc.perform(get("/api/v1/reservations/availability")
+                        .header("Authorization", auth)
+                        .param("sessionIds", a.getId() + ",999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void availability_stream_shouldSendSnapshotAndUpdates() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(10);
+
+        MvcResult stream = mvc.perform(get("/api/v1/reservations/availability/stream")
+                        .header("Authorization", auth)
+                        .param("sessionIds", s.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        awaitContent(stream, "\"available\":10");
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 4))))
+                .andExpect(status().isCreated());
+
+        awaitContent(stream, "\"available\":6");
+        stream.getRequest().getAsyncContext().complete();
+    }
+
+    private void awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!result.getResponse().getContentAsString().contains(expected)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String content = result.getResponse().getContentAsString();
+        assertTrue(content.contains(expected), content);
+    }
+
+    @Test
+    void create_withIdempotencyKey_shouldReserveOnce() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(10);
+        String body = objectMapper.writeValueAsString(
+                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 3));
+
+        String first = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(first).get("id").asLong();
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(id));
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", s.getId())
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(7));
+    }
+
+    @Test
+    void create_sameIdempotencyKeyFromAnotherUser_shouldNotReplay() throws Exception {
+        String first = bearer(Role.USER);
+        String second = bearer(Role.ORGANIZER);
+        Session s = seedSession(10);
+        String body = objectMapper.writeValueAsString(
+                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 3));
+
+        String created = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", first)
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        String other = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", second)
+                        .header("Idempotency-Key", "shared-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        assertNotEquals(id, objectMapper.readTree(other).get("id").asLong());
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", s.getId())
+                        .header("Authorization", first))
+                .andExpect(jsonPath("$.available").value(4));
+    }
+
+    @Test
+    void ticket_shouldFindTimeOrderedAndLegacyCodes() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(10);
+
+        String created = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 1))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        UUID v7 = UUID.fromString(objectMapper.readTree(created).get("code").asText());
+        assertEquals(7, v7.version());
+
+        UUID v4 = UUID.randomUUID();
+        reservationRepository.save(Reservation.builder()
+                .session(s)
+                .customerName("Cliente 2")
+                .customerEmail("cliente2@ifrn.edu.br")
+                .quantity(1)
+                .status(ReservationStatus.ACTIVE)
+                .code(v4)
+                .build());
+        ticketCodeIndex.load();
+
+        mvc.perform(get("/api/v1/reservations/ticket/{code}", v7).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(v7.toString()));
+        mvc.perform(get("/api/v1/reservations/ticket/{code}", v4).header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(v4.toString()));
+        mvc.perform(get("/api/v1/reservations/ticket/{code}", UUID.randomUUID()).header("Authorization", auth))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void list_shouldPageWithCursor() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(20);
+        for (int i = 0; i < 5; i++) {
+            mvc.perform(post("/api/v1/reservations")
+                            .header("Authorization", auth)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 1))))
+                    .andExpect(status().isCreated());
+        }
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(s.getId(), "Cliente 2", "outro@ifrn.edu.br", 1))))
+                .andExpect(status().isCreated());
+
+        java.util.Set<Long> seen = new java.util.HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var req = get("/api/v1/reservations")
+                    .header("Authorization", auth)
+                    .param("email", "cliente@ifrn.edu.br")
+                    .param("size", "2");
+            if (cursor != null) req.param("cursor", cursor);
+
+            var response = mvc.perform(req)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(lessThanOrEqualTo(2))))
+                    .andReturn().getResponse();
+            objectMapper.readTree(response.getContentAsString()).forEach(n -> seen.add(n.get("id").asLong()));
+            cursor = response.getHeader("X-Next-Cursor");
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(5, seen.size());
+
+        mvc.perform(get("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void export_shouldStreamCsvAndNdjson() throws Exception {
+        String user = bearer(Role.USER);
+        String organizer = bearer(Role.ORGANIZER);
+        Session s = seedSession(20);
+        for (String name : List.of("Cliente 1", "Silva, Maria", "=cmd")) {
+            mvc.perform(post("/api/v1/reservations")
+                            .header("Authorization", user)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new ReservationCreateRequest(s.getId(), name, "cliente@ifrn.edu.br", 1))))
+                    .andExpect(status().isCreated());
+        }
+
+        MvcResult csv = mvc.perform(get("/api/v1/reservations/export")
+                        .header("Authorization", organizer)
+                        .param("sessionId", s.getId().toString())
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csvBody = mvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = csvBody.split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,session_id,customer_name"));
+        assertTrue(csvBody.contains("\"Silva, Maria\""));
+        assertTrue(csvBody.contains(",'=cmd,"));
+
+        MvcResult ndjson = mvc.perform(get("/api/v1/reservations/export")
+                        .header("Authorization", organizer)
+                        .param("eventId", s.getEvent().getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String ndjsonBody = mvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String[] rows = ndjsonBody.split("\n");
+        assertEquals(3, rows.length);
+        assertEquals(s.getId().longValue(), objectMapper.readTree(rows[0]).get("sessionId").asLong());
+
+        mvc.perform(get("/api/v1/reservations/export")
+                        .header("Authorization", user)
+                        .param("sessionId", s.getId().toString()))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/api/v1/reservations/export")
+                        .header("Authorization", organizer))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/v1/reservations/export")
+                        .header("Authorization", organizer)
+                        .param("sessionId", "999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void checkIn_shouldRejectDuplicateScansAndPersist() throws Exception {
+        String user = bearer(Role.USER);
+        String organizer = bearer(Role.ORGANIZER);
+        Session s = seedSession(10);
+
+        String created = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 2))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+        String code = objectMapper.readTree(created).get("code").asText();
+
+        mvc.perform(post("/api/v1/reservations/ticket/{code}/check-in", code)
+                        .header("Authorization", user))
+                .andExpect(status().isForbidden());
+
+        mvc.perform(post("/api/v1/reservations/ticket/{code}/check-in", code)
+                        .header("Authorization", organizer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservationId").value(id))
+                .andExpect(jsonPath("$.checkedInAt", notNullValue()));
+
+        mvc.perform(post("/api/v1/reservations/ticket/{code}/check-in", code)
+                        .header("Authorization", organizer))
+                .andExpect(status().isConflict());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (reservationRepository.findById(id).orElseThrow().getCheckedInAt() == null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(reservationRepository.findById(id).orElseThrow().getCheckedInAt() != null);
+    }
+
     @Test
     void create_shouldReturn403_withoutToken() throws Exception {
         Session s = seedSession(10);
@@ -194,4 +555,124 @@ class ReservationControllerIT extends IntegrationTestBase {
                 .andExpect(jsonPath("$.title").value("Bad Request"))
                 .andExpect(jsonPath("$.detail", containsString("Not enough seats. Available:")));
     }
+
+    @Test
+    void create_shouldEnforcePerCustomerTicketCapAcrossSessionsOfEvent() throws Exception {
+        String auth = bearer(Role.USER);
+        Session s = seedSession(10);
+        Event e = s.getEvent();
+        e.setMaxTicketsPerCustomer(3);
+        eventRepository.save(e);
+        Session other = sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(s.getVenue())
+                .startsAt(LocalDateTime.of(2026, 2, 11, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+
+        String first = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 2))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long firstId = objectMapper.readTree(first).get("id").asLong();
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(other.getId(), "Cliente 1", "Cliente@IFRN.edu.br", 2))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Ticket limit per customer reached. Max: 3"));
+
+        mvc.perform(post("/api/v1/reservations/{id}/cancel", firstId)
+                        .header("Authorization", auth))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new ReservationCreateRequest(other.getId(), "Cliente 1", "Cliente@IFRN.edu.br", 3))))
+                .andExpect(status().isCreated());
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", other.getId())
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservedActive").value(3));
+    }
+
+    @Test
+    void cart_shouldBookAllLinesOrNone() throws Exception {
+        String auth = bearer(Role.USER);
+        Session first = seedSession(10);
+        Session second = seedSession(10);
+
+        mvc.perform(post("/api/v1/reservations/cart")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartCheckoutRequest("Cliente 1", "cliente@ifrn.edu.br",
+                                List.of(new CartLineRequest(second.getId(), 3), new CartLineRequest(first.getId(), 4))))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].sessionId").value(second.getId()))
+                .andExpect(jsonPath("$[0].quantity").value(3))
+                .andExpect(jsonPath("$[1].sessionId").value(first.getId()))
+                .andExpect(jsonPath("$[1].status").value(ReservationStatus.ACTIVE.name()));
+
+        mvc.perform(post("/api/v1/reservations/cart")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CartCheckoutRequest("Cliente 2", "outro@ifrn.edu.br",
+                                List.of(new CartLineRequest(first.getId(), 2), new CartLineRequest(second.getId(), 8))))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("Not enough seats in session " + second.getId() + ". Available: 7"));
+
+        mvc.perform(get("/api/v1/reservations/availability")
+                        .header("Authorization", auth)
+                        .param("sessionIds", first.getId() + "," + second.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].reservedActive").value(4))
+                .andExpect(jsonPath("$[1].reservedActive").value(3));
+        assertEquals(2, reservationRepository.count());
+    }
+
+    @Test
+    void cart_overlappingCartsInOppositeOrders_shouldAllSucceed() throws Exception {
+        String auth = bearer(Role.USER);
+        List<Long> sessionIds = List.of(seedSession(100).getId(), seedSession(100).getId(), seedSession(100).getId());
+        int threads = 8;
+        int cartsPerThread = 5;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                List<CartLineRequest> lines = new ArrayList<>();
+                for (int i = 0; i < sessionIds.size(); i++) {
+                    lines.add(new CartLineRequest(sessionIds.get((t + i) % sessionIds.size()), 1));
+                }
+                if (t % 2 == 1) Collections.reverse(lines);
+                for (int c = 0; c < cartsPerThread; c++) {
+                    var cart = new CartCheckoutRequest("Cliente", "cliente" + t + "-" + c + "@ifrn.edu.br", lines);
+                    statuses.add(pool.submit(() -> mvc.perform(post("/api/v1/reservations/cart")
+                                    .header("Authorization", auth)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(cart)))
+                            .andReturn().getResponse().getStatus()));
+                }
+            }
+            for (Future<Integer> status : statuses) {
+                assertEquals(201, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        for (Long sessionId : sessionIds) {
+            assertEquals(threads * cartsPerThread, sessionRepository.findSeatsById(sessionId).orElseThrow().getReservedSeats());
+        }
+    }
 }
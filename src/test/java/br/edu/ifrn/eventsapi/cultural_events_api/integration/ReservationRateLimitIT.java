@@ -0,0 +1,111 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "reservations.rate-limit.capacity=2",
+        "reservations.rate-limit.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class ReservationRateLimitIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(String email) {
+        userRepository.save(User.builder()
+                .name("Cliente")
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(Role.USER)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    private Session seedSession(int capacity) {
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    @Test
+    void create_overLimit_returns429WithRetryAfter() throws Exception {
+        String auth = bearer("cambista@ifrn.edu.br");
+        Session s = seedSession(100);
+        String body = objectMapper.writeValueAsString(
+                new ReservationCreateRequest(s.getId(), "Cambista", "cambista@ifrn.edu.br", 1));
+
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(post("/api/v1/reservations")
+                            .header("Authorization", auth)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated());
+        }
+
+        mvc.perform(post("/api/v1/reservations/holds")
+                        .header("Authorization", auth)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.title").value("Too Many Requests"));
+
+        assertEquals(2, reservationRepository.count());
+    }
+}
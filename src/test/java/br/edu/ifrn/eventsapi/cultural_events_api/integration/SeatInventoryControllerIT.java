@@ -0,0 +1,129 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.ReservationCodeGenerator;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SeatInventoryControllerIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+    @Autowired ReservationCodeGenerator codeGenerator;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(Role role) {
+        String email = role.name().toLowerCase() + "@ifrn.edu.br";
+        userRepository.save(User.builder()
+                .name(role.name())
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(role)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    private Session seedSession(int capacity) {
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    @Test
+    void drift_and_backfill_shouldReconcileCounterWithReservations() throws Exception {
+        String auth = bearer(Role.ADMIN);
+        Session s = seedSession(10);
+
+        reservationRepository.save(Reservation.builder()
+                .session(s)
+                .customerName("Cliente 1")
+                .customerEmail("cliente@ifrn.edu.br")
+                .quantity(4)
+                .status(ReservationStatus.ACTIVE)
+                .code(codeGenerator.next())
+                .build());
+
+        mvc.perform(get("/api/v1/admin/seat-inventory/drift")
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sessionId").value(s.getId()))
+                .andExpect(jsonPath("$[0].reservedSeats").value(0))
+                .andExpect(jsonPath("$[0].reservedActive").value(4));
+
+        mvc.perform(post("/api/v1/admin/seat-inventory/backfill")
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessionsUpdated").value(1));
+
+        mvc.perform(get("/api/v1/admin/seat-inventory/drift")
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        mvc.perform(get("/api/v1/reservations/availability/{sessionId}", s.getId())
+                        .header("Authorization", auth))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservedActive").value(4))
+                .andExpect(jsonPath("$.available").value(6));
+    }
+
+    @Test
+    void drift_shouldReturn403_forNonAdmin() throws Exception {
+        String auth = bearer(Role.USER);
+
+        mvc.perform(get("/api/v1/admin/seat-inventory/drift")
+                        .header("Authorization", auth))
+                .andExpect(status().isForbidden());
+    }
+}
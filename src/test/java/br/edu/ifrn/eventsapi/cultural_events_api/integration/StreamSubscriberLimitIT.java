@@ -0,0 +1,112 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "reservations.availability.stream.max-subscribers=0",
+        "reservations.waiting-room.stream.max-subscribers=0"
+})
+@AutoConfigureMockMvc
+class StreamSubscriberLimitIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(String email, Role role) {
+        userRepository.save(User.builder()
+                .name("Cliente")
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(role)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    @Test
+    void availabilityStream_full_returns503WithRetryAfter() throws Exception {
+        String auth = bearer("cliente@ifrn.edu.br", Role.USER);
+
+        mvc.perform(get("/api/v1/reservations/availability/stream")
+                        .param("sessionIds", "1")
+                        .header("Authorization", auth))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.detail").value("Too many availability subscribers"));
+    }
+
+    @Test
+    void waitingRoomStream_full_returns503WithRetryAfter() throws Exception {
+        String admin = bearer("admin@ifrn.edu.br", Role.ADMIN);
+        String user = bearer("cliente@ifrn.edu.br", Role.USER);
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+        Venue v = venueRepository.save(Venue.builder().name("Auditório").address("IFRN").capacity(10).build());
+        Session s = sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+
+        mvc.perform(put("/api/v1/admin/reservations/waiting-room/{id}", s.getId())
+                        .header("Authorization", admin))
+                .andExpect(status().isOk());
+        try {
+            String joined = mvc.perform(post("/api/v1/waiting-room/{id}", s.getId())
+                            .header("Authorization", user))
+                    .andExpect(status().isCreated())
+                    .andReturn().getResponse().getContentAsString();
+            String token = objectMapper.readTree(joined).get("token").asText();
+
+            mvc.perform(get("/api/v1/waiting-room/{id}/stream", s.getId())
+                            .param("token", token)
+                            .header("Authorization", user))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                    .andExpect(jsonPath("$.detail").value("Too many waiting room subscribers"));
+        } finally {
+            mvc.perform(delete("/api/v1/admin/reservations/waiting-room/{id}", s.getId())
+                    .header("Authorization", admin));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.integration;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.service.JwtService;
+import br.edu.ifrn.eventsapi.cultural_events_api.support.IntegrationTestBase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WaitingRoomControllerIT extends IntegrationTestBase {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+
+    @Autowired ReservationRepository reservationRepository;
+    @Autowired SessionRepository sessionRepository;
+    @Autowired VenueRepository venueRepository;
+    @Autowired EventRepository eventRepository;
+
+    @Autowired UserRepository userRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+    @Autowired JwtService jwtService;
+
+    @BeforeEach
+    void setup() {
+        reservationRepository.deleteAll();
+        sessionRepository.deleteAll();
+        venueRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private String bearer(Role role) {
+        String email = role.name().toLowerCase() + "@ifrn.edu.br";
+        userRepository.save(User.builder()
+                .name(role.name())
+                .email(email)
+                .passwordHash(passwordEncoder.encode("12345678"))
+                .role(role)
+                .build());
+        return "Bearer " + jwtService.generateToken(email, Map.of());
+    }
+
+    private Session seedSession(int capacity) {
+        Event e = eventRepository.save(Event.builder()
+                .title("Festival")
+                .startDate(LocalDate.of(2026, 2, 10))
+                .endDate(LocalDate.of(2026, 2, 11))
+                .build());
+
+        Venue v = venueRepository.save(Venue.builder()
+                .name("Auditório Central")
+                .address("IFRN")
+                .capacity(capacity)
+                .build());
+
+        return sessionRepository.save(Session.builder()
+                .event(e)
+                .venue(v)
+                .startsAt(LocalDateTime.of(2026, 2, 10, 19, 0))
+                .price(BigDecimal.valueOf(50))
+                .build());
+    }
+
+    @Test
+    void flashSale_onlyAdmittedTokenCanReserveOnce() throws Exception {
+        String admin = bearer(Role.ADMIN);
+        String user = bearer(Role.USER);
+        Session s = seedSession(10);
+        String body = objectMapper.writeValueAsString(
+                new ReservationCreateRequest(s.getId(), "Cliente 1", "cliente@ifrn.edu.br", 2));
+
+        mvc.perform(put("/api/v1/admin/reservations/waiting-room/{id}", s.getId())
+                        .header("Authorization", user))
+                .andExpect(status().isForbidden());
+        mvc.perform(put("/api/v1/admin/reservations/waiting-room/{id}", s.getId())
+                        .header("Authorization", admin)
+                        .param("admitPerSecond", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.admitPerSecond").value(100.0));
+
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict());
+
+        String joined = mvc.perform(post("/api/v1/waiting-room/{id}", s.getId())
+                        .header("Authorization", user))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(joined).get("token").asText();
+
+        boolean admitted = false;
+        for (int i = 0; i < 50 && !admitted; i++) {
+            JsonNode status = objectMapper.readTree(mvc.perform(get("/api/v1/waiting-room/{id}", s.getId())
+                            .header("Authorization", user)
+                            .header("X-Queue-Token", token))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            admitted = status.get("admitted").asBoolean();
+            if (!admitted) Thread.sleep(50);
+        }
+        assertTrue(admitted);
+
+        String created = mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .header("X-Queue-Token", token)
+                        .header("Idempotency-Key", "flash-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .header("X-Queue-Token", token)
+                        .header("Idempotency-Key", "flash-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(objectMapper.readTree(created).get("id").asInt()));
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .header("X-Queue-Token", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.detail").value("Queue token already used"));
+
+        mvc.perform(delete("/api/v1/admin/reservations/waiting-room/{id}", s.getId())
+                        .header("Authorization", admin))
+                .andExpect(status().isNoContent());
+        mvc.perform(post("/api/v1/reservations")
+                        .header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+    }
+}
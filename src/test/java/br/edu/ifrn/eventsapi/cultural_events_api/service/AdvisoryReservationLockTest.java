@@ -0,0 +1,64 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdvisoryReservationLockTest {
+
+    JdbcTemplate jdbc = mock(JdbcTemplate.class);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    AdvisoryReservationLock lock;
+
+    @BeforeEach
+    void setup() {
+        lock = new AdvisoryReservationLock(jdbc, registry);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("acquire deve exigir transação ativa")
+    void acquire_requiresTransaction() {
+        var ex = assertThrows(IllegalStateException.class, () -> lock.acquire(1L));
+
+        assertEquals("Reservation lock requires an active transaction", ex.getMessage());
+        verifyNoInteractions(jdbc);
+    }
+
+    @Test
+    @DisplayName("acquire sem disputa não deve esperar nem contar contenção")
+    void acquire_uncontended() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(jdbc.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, 7L)).thenReturn(true);
+
+        lock.acquire(7L);
+
+        verify(jdbc, never()).queryForList("select pg_advisory_xact_lock(?)", 7L);
+        assertEquals(0, registry.counter("reservations.lock.contended", "mode", "advisory").count());
+        assertEquals(1, registry.timer("reservations.lock.wait", "mode", "advisory").count());
+    }
+
+    @Test
+    @DisplayName("acquire com o lock ocupado deve esperar e contar contenção")
+    void acquire_contended() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(jdbc.queryForObject("select pg_try_advisory_xact_lock(?)", Boolean.class, 7L)).thenReturn(false);
+
+        lock.acquire(7L);
+
+        verify(jdbc).queryForList("select pg_advisory_xact_lock(?)", 7L);
+        assertEquals(1, registry.counter("reservations.lock.contended", "mode", "advisory").count());
+        assertEquals(1, registry.timer("reservations.lock.wait", "mode", "advisory").count());
+    }
+}
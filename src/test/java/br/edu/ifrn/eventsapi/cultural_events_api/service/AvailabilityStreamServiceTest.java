@@ -0,0 +1,203 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.AvailabilityResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.SubscriberLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityStreamServiceTest {
+
+    @Mock
+    ReservationService reservationService;
+
+    AvailabilityStreamService service;
+
+    @BeforeEach
+    void setup() {
+        service = new AvailabilityStreamService(reservationService, 60_000, 2, 10, 200);
+    }
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    private AvailabilityResponse availability(long sessionId, long reserved) {
+        return new AvailabilityResponse(sessionId, 10, reserved, 10 - reserved);
+    }
+
+    private void awaitSent(RecordingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (emitter.sent.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, emitter.sent.size());
+    }
+
+    @Test
+    @DisplayName("subscribe deve enviar o snapshot inicial das sessões")
+    void subscribe_sendsInitialSnapshot() throws Exception {
+        when(reservationService.availability(List.of(1L, 2L)))
+                .thenReturn(List.of(availability(1L, 0), availability(2L, 3)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        service.register(emitter, List.of(1L, 2L));
+
+        awaitSent(emitter, 2);
+        assertEquals(1, service.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("subscribe com sessões demais deve lançar IllegalArgumentException")
+    void subscribe_tooManySessions_throws() {
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> service.register(new RecordingEmitter(), List.of(1L, 2L, 3L)));
+
+        assertTrue(ex.getMessage().contains("Too many sessions"));
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("várias mudanças na mesma sessão devem gerar uma única consulta e um único evento por flush")
+    void flush_coalescesChanges() throws Exception {
+        when(reservationService.availability(List.of(1L))).thenReturn(List.of(availability(1L, 0)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(emitter, List.of(1L));
+        awaitSent(emitter, 1);
+
+        service.onSeatsChanged(new SeatsChangedEvent(1L));
+        service.onSeatsChanged(new SeatsChangedEvent(1L));
+        service.onSeatsChanged(new SeatsChangedEvent(1L));
+        when(reservationService.availabilitySnapshot(List.of(1L))).thenReturn(List.of(availability(1L, 3)));
+
+        service.flush();
+        service.flush();
+
+        awaitSent(emitter, 2);
+        verify(reservationService, times(1)).availabilitySnapshot(anyCollection());
+    }
+
+    @Test
+    @DisplayName("mudanças em sessões sem assinantes devem ser ignoradas")
+    void onSeatsChanged_withoutSubscribers_isIgnored() {
+        service.onSeatsChanged(new SeatsChangedEvent(7L));
+
+        service.flush();
+
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("assinante com falha de envio deve ser removido")
+    void failingEmitter_isUnsubscribed() throws Exception {
+        when(reservationService.availability(List.of(1L))).thenReturn(List.of(availability(1L, 0)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.fail = true;
+
+        service.register(emitter, List.of(1L));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (service.subscriberCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, service.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("acima do limite de assinantes deve lançar SubscriberLimitExceededException")
+    void subscribe_overSubscriberLimit_throws() {
+        AvailabilityStreamService small = new AvailabilityStreamService(reservationService, 60_000, 2, 1, 200);
+        try {
+            when(reservationService.availability(List.of(1L))).thenReturn(List.of(availability(1L, 0)));
+            small.register(new RecordingEmitter(), List.of(1L));
+
+            var ex = assertThrows(SubscriberLimitExceededException.class,
+                    () -> small.register(new RecordingEmitter(), List.of(1L)));
+
+            assertTrue(ex.getRetryAfterSeconds() > 0);
+            assertEquals(1, small.subscriberCount());
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("assinante que parou de ler não deve atrasar os demais e deve ser removido após o send-timeout")
+    void stalledEmitter_doesNotBlockOthers_andIsDropped() throws Exception {
+        when(reservationService.availability(List.of(1L))).thenReturn(List.of(availability(1L, 0)));
+        StalledEmitter stalled = new StalledEmitter();
+        try {
+            service.register(stalled, List.of(1L));
+            assertTrue(stalled.writing.await(2, TimeUnit.SECONDS));
+
+            RecordingEmitter healthy = new RecordingEmitter();
+            service.register(healthy, List.of(1L));
+            awaitSent(healthy, 1);
+
+            service.onSeatsChanged(new SeatsChangedEvent(1L));
+            when(reservationService.availabilitySnapshot(List.of(1L))).thenReturn(List.of(availability(1L, 2)));
+            service.flush();
+            awaitSent(healthy, 2);
+            assertEquals(2, service.subscriberCount());
+
+            Thread.sleep(300);
+            service.flush();
+
+            assertEquals(1, service.subscriberCount());
+            assertTrue(stalled.completed);
+        } finally {
+            stalled.release.countDown();
+        }
+    }
+
+    /** Emitter whose client stopped reading: the first write blocks until released. */
+    static class StalledEmitter extends SseEmitter {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("connection closed");
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+        final List<Object> sent = new CopyOnWriteArrayList<>();
+        volatile boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) throw new IOException("broken pipe");
+            sent.add(builder);
+        }
+    }
+}
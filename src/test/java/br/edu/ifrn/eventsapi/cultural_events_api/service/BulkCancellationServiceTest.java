@@ -0,0 +1,92 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCancellationServiceTest {
+
+    @Mock JdbcTemplate jdbc;
+    @Mock SessionRepository sessionRepository;
+    @Mock EventRepository eventRepository;
+    @Mock ReservationLock reservationLock;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock ReservationJournal journal;
+    @Mock CustomerTicketCountRepository customerTicketCountRepository;
+
+    @InjectMocks
+    BulkCancellationService service;
+
+    @Test
+    @DisplayName("cancel por evento deve liberar os lugares por sessão e publicar os eventos")
+    void cancelByEvent_releasesPerSession() {
+        UUID c1 = UUID.randomUUID(), c2 = UUID.randomUUID(), c3 = UUID.randomUUID();
+        when(eventRepository.existsById(7L)).thenReturn(true);
+        when(sessionRepository.findIdsByEventId(7L)).thenReturn(List.of(1L, 2L));
+        when(jdbc.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of(
+                new BulkCancellationService.CanceledRow(10L, 1L, c1, "cliente@ifrn.edu.br", 2, ReservationStatus.ACTIVE),
+                new BulkCancellationService.CanceledRow(11L, 1L, c2, "Cliente@IFRN.edu.br", 1, ReservationStatus.HELD),
+                new BulkCancellationService.CanceledRow(12L, 2L, c3, "cliente@ifrn.edu.br", 4, ReservationStatus.ACTIVE)));
+        when(sessionRepository.releaseSeats(anyLong(), anyInt())).thenReturn(1);
+
+        var res = service.cancel(null, 7L);
+
+        assertEquals(3, res.canceled());
+        assertEquals(7L, res.seatsReleased());
+        assertEquals(List.of(c1, c2, c3), res.codes());
+        verify(reservationLock).acquireAll(List.of(1L, 2L));
+        verify(sessionRepository).releaseSeats(1L, 3);
+        verify(sessionRepository).releaseSeats(2L, 4);
+        verify(eventPublisher).publishEvent(new HoldReleasedEvent(11L));
+        verify(eventPublisher).publishEvent(new SeatsChangedEvent(1L));
+        verify(eventPublisher).publishEvent(new SeatsChangedEvent(2L));
+        verify(eventPublisher).publishEvent(new ReservationsCanceledEvent(List.of(c1, c2, c3)));
+        verify(journal).record(ReservationJournal.Type.CANCELED, 12L, 2L, 4, c3);
+        verify(customerTicketCountRepository).releaseTickets(1L, "cliente@ifrn.edu.br", 3);
+        verify(customerTicketCountRepository).releaseTickets(2L, "cliente@ifrn.edu.br", 4);
+    }
+
+    @Test
+    @DisplayName("cancel sem reservas ativas não deve tocar nos contadores")
+    void cancel_nothingToCancel() {
+        when(sessionRepository.existsById(1L)).thenReturn(true);
+        when(jdbc.query(anyString(), any(RowMapper.class), any(Object[].class))).thenReturn(List.of());
+
+        var res = service.cancel(1L, null);
+
+        assertEquals(0, res.canceled());
+        assertEquals(0L, res.seatsReleased());
+        verify(sessionRepository, never()).releaseSeats(anyLong(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("cancel deve validar os filtros e a existência da sessão")
+    void cancel_validates() {
+        assertThrows(IllegalArgumentException.class, () -> service.cancel(null, null));
+        assertThrows(IllegalArgumentException.class, () -> service.cancel(1L, 2L));
+
+        when(sessionRepository.existsById(9L)).thenReturn(false);
+        assertThrows(EntityNotFoundException.class, () -> service.cancel(9L, null));
+        verifyNoInteractions(jdbc);
+    }
+}
@@ -0,0 +1,106 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.ConflictException;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInServiceTest {
+
+    @Mock
+    ReservationService reservationService;
+
+    @Mock
+    JdbcTemplate jdbc;
+
+    CheckInService service;
+
+    @BeforeEach
+    void setup() {
+        service = new CheckInService(reservationService, jdbc, 60_000, 2);
+    }
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    private ReservationResponse ticket(long id, UUID code, ReservationStatus status) {
+        return new ReservationResponse(id, 3L, "Cliente 1", "cliente@ifrn.edu.br", 2,
+                status, code, LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("primeiro check-in deve ser aceito e o segundo recusado em memória")
+    void checkIn_duplicate_isRejected() {
+        UUID code = UUID.randomUUID();
+        when(reservationService.currentTicket(code)).thenReturn(ticket(10L, code, ReservationStatus.ACTIVE));
+
+        var res = service.checkIn(code);
+
+        assertEquals(10L, res.reservationId());
+        assertNotNull(res.checkedInAt());
+        assertTrue(service.isCheckedIn(3L, 10L));
+
+        var ex = assertThrows(ConflictException.class, () -> service.checkIn(code));
+        assertTrue(ex.getMessage().startsWith("Ticket already checked in"));
+        assertEquals(1, service.pendingWrites());
+        verify(reservationService, never()).ticket(any());
+    }
+
+    @Test
+    @DisplayName("check-in de reserva cancelada ou pré-reserva deve ser recusado")
+    void checkIn_notActive_isRejected() {
+        UUID code = UUID.randomUUID();
+        when(reservationService.currentTicket(code)).thenReturn(ticket(10L, code, ReservationStatus.CANCELED));
+
+        assertThrows(ConflictException.class, () -> service.checkIn(code));
+        assertFalse(service.isCheckedIn(3L, 10L));
+    }
+
+    @Test
+    @DisplayName("flush deve gravar os check-ins pendentes em lotes")
+    @SuppressWarnings("unchecked")
+    void flush_writesInBatches() {
+        for (long id = 1; id <= 3; id++) {
+            UUID code = UUID.randomUUID();
+            when(reservationService.currentTicket(code)).thenReturn(ticket(id, code, ReservationStatus.ACTIVE));
+            service.checkIn(code);
+        }
+
+        service.flush();
+
+        verify(jdbc, times(2)).batchUpdate(anyString(), anyList());
+        assertEquals(0, service.pendingWrites());
+    }
+
+    @Test
+    @DisplayName("falha ao gravar deve manter os check-ins na fila")
+    void flush_failure_requeues() {
+        UUID code = UUID.randomUUID();
+        when(reservationService.currentTicket(code)).thenReturn(ticket(1L, code, ReservationStatus.ACTIVE));
+        service.checkIn(code);
+        when(jdbc.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+
+        assertThrows(RuntimeException.class, () -> service.flush());
+
+        assertEquals(1, service.pendingWrites());
+        reset(jdbc);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -22,6 +23,7 @@ import static org.mockito.Mockito.*;
 class EventServiceTest {
 
     @Mock EventRepository eventRepository;
+    @Mock CacheManager cacheManager;
     @InjectMocks EventService service;
 
     private static EventCreateRequest req() {
@@ -30,7 +32,8 @@ class EventServiceTest {
                 "Um evento incrível",
                 "Música",
                 LocalDate.of(2026, 2, 10),
-                LocalDate.of(2026, 2, 11)
+                LocalDate.of(2026, 2, 11),
+                null
         );
     }
 
@@ -128,7 +131,8 @@ class EventServiceTest {
                 "Nova desc",
                 "Teatro",
                 LocalDate.of(2026, 4, 10),
-                LocalDate.of(2026, 4, 12)
+                LocalDate.of(2026, 4, 12),
+                4
         );
 
         when(eventRepository.findById(id)).thenReturn(Optional.of(existing));
@@ -142,6 +146,7 @@ class EventServiceTest {
         assertEquals("Teatro", res.category());
         assertEquals(LocalDate.of(2026, 4, 10), res.startDate());
         assertEquals(LocalDate.of(2026, 4, 12), res.endDate());
+        assertEquals(4, res.maxTicketsPerCustomer());
 
         verify(eventRepository).findById(id);
         verify(eventRepository).save(existing);
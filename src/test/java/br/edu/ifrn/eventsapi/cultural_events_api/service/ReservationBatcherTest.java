@@ -0,0 +1,155 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBatcherTest {
+
+    @Mock
+    ReservationService reservationService;
+
+    ReservationBatcher batcher;
+
+    @AfterEach
+    void shutdown() {
+        if (batcher != null) batcher.shutdown();
+    }
+
+    private ReservationCreateRequest req(int qty) {
+        return new ReservationCreateRequest(10L, "Cliente 1", "cliente@ifrn.edu.br", qty);
+    }
+
+    private ReservationResponse response(long id, int qty) {
+        return new ReservationResponse(id, 10L, "Cliente 1", "cliente@ifrn.edu.br", qty,
+                ReservationStatus.ACTIVE, UUID.randomUUID(), LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("create deve delegar direto ao serviço quando o batching está desligado")
+    void create_disabled_delegates() {
+        batcher = new ReservationBatcher(reservationService, false, 5, 64, 1, 1000);
+        var r = req(1);
+        when(reservationService.create(r, null)).thenReturn(response(1L, 1));
+
+        assertEquals(1L, batcher.create(r).id());
+
+        verify(reservationService).create(r, null);
+        verifyNoMoreInteractions(reservationService);
+    }
+
+    @Test
+    @DisplayName("requisições concorrentes da mesma sessão devem virar um único lote")
+    void create_enabled_groupsConcurrentRequests() throws Exception {
+        batcher = new ReservationBatcher(reservationService, true, 200, 3, 1, 5000);
+        when(reservationService.createBatch(eq(10L), anyList(), anyList())).thenAnswer(inv -> {
+            List<ReservationCreateRequest> reqs = inv.getArgument(1);
+            List<ReservationBatchResult> results = new ArrayList<>();
+            for (int i = 0; i < reqs.size(); i++) {
+                results.add(i == 1
+                        ? ReservationBatchResult.rejected("Not enough seats. Available: 0")
+                        : ReservationBatchResult.accepted(response(i + 1, reqs.get(i).quantity())));
+            }
+            return results;
+        });
+
+        var f1 = CompletableFuture.supplyAsync(() -> batcher.create(req(1)));
+        var f2 = CompletableFuture.supplyAsync(() -> batcher.create(req(2)));
+        var f3 = CompletableFuture.supplyAsync(() -> batcher.create(req(3)));
+
+        CompletableFuture.allOf(f1, f2, f3).exceptionally(ex -> null).join();
+
+        verify(reservationService, times(1)).createBatch(eq(10L), argThat(l -> l.size() == 3), anyList());
+        long rejected = List.of(f1, f2, f3).stream().filter(CompletableFuture::isCompletedExceptionally).count();
+        assertEquals(1, rejected);
+        var failed = List.of(f1, f2, f3).stream().filter(CompletableFuture::isCompletedExceptionally).findFirst().orElseThrow();
+        var ex = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("lote que passa do timeout deve responder com resultado desconhecido")
+    void create_enabled_timeoutIsOutcomeUnknown() {
+        batcher = new ReservationBatcher(reservationService, true, 1, 64, 1, 50);
+        when(reservationService.createBatch(eq(10L), anyList(), anyList())).thenAnswer(inv -> {
+            Thread.sleep(500);
+            return List.of(ReservationBatchResult.accepted(response(1L, 1)));
+        });
+
+        var ex = assertThrows(OutcomeUnknownException.class, () -> batcher.create(req(1)));
+        assertTrue(ex.getMessage().contains("Idempotency-Key"));
+    }
+
+    @Test
+    @DisplayName("mesma chave repetida no lote deve ser gravada uma única vez")
+    void flush_duplicateKeys_writtenOnce() throws Exception {
+        batcher = new ReservationBatcher(reservationService, true, 5, 64, 1, 5000);
+        var p1 = new ReservationBatcher.Pending(req(1), "k1", new CompletableFuture<>());
+        var p2 = new ReservationBatcher.Pending(req(1), "k1", new CompletableFuture<>());
+        var p3 = new ReservationBatcher.Pending(req(2), null, new CompletableFuture<>());
+        var batch = new ReservationBatcher.Batch();
+        batch.items.addAll(List.of(p1, p2, p3));
+        when(reservationService.createBatch(eq(10L), anyList(), anyList())).thenReturn(List.of(
+                ReservationBatchResult.accepted(response(1L, 1)),
+                ReservationBatchResult.accepted(response(2L, 2))));
+
+        batcher.flush(10L, batch);
+
+        verify(reservationService).createBatch(eq(10L), argThat(l -> l.size() == 2), eq(Arrays.asList("k1", null)));
+        assertEquals(1L, p1.result().get().id());
+        assertEquals(1L, p2.result().get().id());
+        assertEquals(2L, p3.result().get().id());
+    }
+
+    @Test
+    @DisplayName("violação de unicidade no lote deve refazer cada requisição sozinha")
+    void flush_constraintViolation_fallsBackToSingleCreates() throws Exception {
+        batcher = new ReservationBatcher(reservationService, true, 5, 64, 1, 5000);
+        var p1 = new ReservationBatcher.Pending(req(1), "k1", new CompletableFuture<>());
+        var p2 = new ReservationBatcher.Pending(req(2), "k2", new CompletableFuture<>());
+        var batch = new ReservationBatcher.Batch();
+        batch.items.addAll(List.of(p1, p2));
+        when(reservationService.createBatch(eq(10L), anyList(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("idempotency_key"));
+        when(reservationService.create(p1.request(), "k1")).thenThrow(new DataIntegrityViolationException("idempotency_key"));
+        when(reservationService.create(p2.request(), "k2")).thenReturn(response(2L, 2));
+
+        batcher.flush(10L, batch);
+
+        var ex = assertThrows(ExecutionException.class, () -> p1.result().get());
+        assertInstanceOf(DataIntegrityViolationException.class, ex.getCause());
+        assertEquals(2L, p2.result().get().id());
+    }
+
+    @Test
+    @DisplayName("falha do lote deve ser propagada para todos os chamadores")
+    void create_enabled_propagatesBatchFailure() {
+        batcher = new ReservationBatcher(reservationService, true, 1, 64, 1, 5000);
+        when(reservationService.createBatch(eq(10L), anyList(), anyList()))
+                .thenThrow(new jakarta.persistence.EntityNotFoundException("Session not found: 10"));
+
+        var ex = assertThrows(jakarta.persistence.EntityNotFoundException.class, () -> batcher.create(req(1)));
+        assertEquals("Session not found: 10", ex.getMessage());
+    }
+}
@@ -0,0 +1,22 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationCodeGeneratorTest {
+
+    @Test
+    @DisplayName("formato v7 deve gerar códigos ordenados no tempo e v4 códigos aleatórios")
+    void next_respectsFormat() {
+        assertEquals(7, new ReservationCodeGenerator("v7").next().version());
+        assertEquals(4, new ReservationCodeGenerator("V4").next().version());
+    }
+
+    @Test
+    @DisplayName("formato desconhecido deve lançar IllegalArgumentException")
+    void constructor_unknownFormat_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ReservationCodeGenerator("v1"));
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.EventRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExportServiceTest {
+
+    @Mock DataSource dataSource;
+    @Mock PlatformTransactionManager transactionManager;
+    @Mock SessionRepository sessionRepository;
+    @Mock EventRepository eventRepository;
+
+    ReservationExportService service;
+
+    @BeforeEach
+    void setup() {
+        service = new ReservationExportService(dataSource, transactionManager, new ObjectMapper(),
+                sessionRepository, eventRepository, 100);
+    }
+
+    @Test
+    @DisplayName("validate deve exigir exatamente um entre sessionId e eventId")
+    void validate_requiresExactlyOneFilter() {
+        assertThrows(IllegalArgumentException.class, () -> service.validate(null, null, "csv"));
+        assertThrows(IllegalArgumentException.class, () -> service.validate(1L, 2L, "csv"));
+        verifyNoInteractions(sessionRepository, eventRepository);
+    }
+
+    @Test
+    @DisplayName("validate deve lançar EntityNotFoundException para sessão inexistente")
+    void validate_unknownSession_throws() {
+        when(sessionRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> service.validate(1L, null, "csv"));
+    }
+
+    @Test
+    @DisplayName("validate deve reconhecer os formatos e recusar desconhecidos")
+    void validate_format() {
+        when(eventRepository.existsById(2L)).thenReturn(true);
+
+        assertEquals(ReservationExportService.Format.CSV, service.validate(null, 2L, "CSV"));
+        assertEquals(ReservationExportService.Format.NDJSON, service.validate(null, 2L, "ndjson"));
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.validate(null, 2L, "xml"));
+        assertEquals("Unknown export format: xml", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("csv deve escapar aspas, vírgulas e neutralizar fórmulas")
+    void csv_escaping() {
+        assertEquals("Maria", ReservationExportService.csv("Maria"));
+        assertEquals("\"Silva, Maria\"", ReservationExportService.csv("Silva, Maria"));
+        assertEquals("\"Diz \"\"oi\"\"\"", ReservationExportService.csv("Diz \"oi\""));
+        assertEquals("'=SUM(A1)", ReservationExportService.csv("=SUM(A1)"));
+        assertEquals("", ReservationExportService.csv(null));
+    }
+}
@@ -0,0 +1,239 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationIdempotencyServiceTest {
+
+    private static final String PRINCIPAL = "cliente@ifrn.edu.br";
+    private static final String K1 = ReservationIdempotencyService.scopedKey(PRINCIPAL, "k1");
+
+    @Mock
+    ReservationBatcher reservationBatcher;
+
+    @Mock
+    ReservationService reservationService;
+
+    ReservationIdempotencyService service;
+
+    @BeforeEach
+    void setup() {
+        service = new ReservationIdempotencyService(reservationBatcher, reservationService, Duration.ofMinutes(1), 2, 2000);
+    }
+
+    private ReservationCreateRequest req(int qty) {
+        return new ReservationCreateRequest(10L, "Cliente 1", "cliente@ifrn.edu.br", qty);
+    }
+
+    private ReservationResponse response(long id, int qty) {
+        return new ReservationResponse(id, 10L, "Cliente 1", "cliente@ifrn.edu.br", qty,
+                ReservationStatus.ACTIVE, UUID.randomUUID(), LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("create sem chave deve delegar direto ao batcher")
+    void create_withoutKey_delegates() {
+        var r = req(1);
+        when(reservationBatcher.create(r)).thenReturn(response(1L, 1));
+
+        assertEquals(1L, service.create(r, PRINCIPAL, null).id());
+
+        verifyNoInteractions(reservationService);
+        assertEquals(0, service.size());
+    }
+
+    @Test
+    @DisplayName("repetição com a mesma chave deve devolver o primeiro resultado sem criar de novo")
+    void create_sameKey_returnsStoredResult() {
+        var r = req(2);
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(r, K1)).thenReturn(response(1L, 2));
+
+        var first = service.create(r, PRINCIPAL, "k1");
+        var second = service.create(r, PRINCIPAL, "k1");
+
+        assertSame(first, second);
+        verify(reservationBatcher, times(1)).create(r, K1);
+    }
+
+    @Test
+    @DisplayName("duplicatas concorrentes devem esperar a requisição em andamento")
+    void create_concurrentDuplicates_wait() throws Exception {
+        var r = req(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(r, K1)).thenAnswer(inv -> {
+            started.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return response(1L, 2);
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> service.create(r, PRINCIPAL, "k1"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        var second = CompletableFuture.supplyAsync(() -> service.create(r, PRINCIPAL, "k1"));
+        release.countDown();
+
+        assertEquals(1L, first.get(2, TimeUnit.SECONDS).id());
+        assertEquals(1L, second.get(2, TimeUnit.SECONDS).id());
+        verify(reservationBatcher, times(1)).create(r, K1);
+    }
+
+    @Test
+    @DisplayName("duplicata que desiste de esperar deve receber resultado desconhecido")
+    void create_duplicateWaitTimesOut_isOutcomeUnknown() throws Exception {
+        service = new ReservationIdempotencyService(reservationBatcher, reservationService, Duration.ofMinutes(1), 2, 50);
+        var r = req(2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(r, K1)).thenAnswer(inv -> {
+            started.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return response(1L, 2);
+        });
+
+        var first = CompletableFuture.supplyAsync(() -> service.create(r, PRINCIPAL, "k1"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        assertThrows(OutcomeUnknownException.class, () -> service.create(r, PRINCIPAL, "k1"));
+        release.countDown();
+        assertEquals(1L, first.get(2, TimeUnit.SECONDS).id());
+    }
+
+    @Test
+    @DisplayName("chave já gravada no banco deve ser respondida sem criar reserva")
+    void create_keyInDatabase_skipsCreate() {
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.of(response(7L, 2)));
+
+        assertEquals(7L, service.create(req(2), PRINCIPAL, "k1").id());
+
+        verifyNoInteractions(reservationBatcher);
+    }
+
+    @Test
+    @DisplayName("violação de unicidade da chave deve devolver a reserva gravada por outro nó")
+    void create_uniqueViolation_readsStoredReservation() {
+        var r = req(2);
+        when(reservationService.findByIdempotencyKey(K1))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(response(9L, 2)));
+        when(reservationBatcher.create(r, K1)).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertEquals(9L, service.create(r, PRINCIPAL, "k1").id());
+    }
+
+    @Test
+    @DisplayName("falha não deve ficar guardada: a repetição executa de novo")
+    void create_failure_isNotStored() {
+        var r = req(2);
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(r, K1))
+                .thenThrow(new IllegalArgumentException("Not enough seats. Available: 0"))
+                .thenReturn(response(1L, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> service.create(r, PRINCIPAL, "k1"));
+        assertEquals(1L, service.create(r, PRINCIPAL, "k1").id());
+        verify(reservationBatcher, times(2)).create(r, K1);
+    }
+
+    @Test
+    @DisplayName("mesma chave com outra requisição deve lançar IllegalArgumentException")
+    void create_sameKeyDifferentRequest_throws() {
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(req(2), K1)).thenReturn(response(1L, 2));
+        service.create(req(2), PRINCIPAL, "k1");
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.create(req(3), PRINCIPAL, "k1"));
+        assertEquals("Idempotency-Key already used for a different request", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("a mesma chave usada por outro usuário não deve devolver a reserva do primeiro")
+    void create_sameKeyOtherPrincipal_isIndependent() {
+        String other = ReservationIdempotencyService.scopedKey("outro@ifrn.edu.br", "k1");
+        when(reservationService.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        when(reservationBatcher.create(req(2), K1)).thenReturn(response(1L, 2));
+        when(reservationBatcher.create(req(2), other)).thenReturn(response(2L, 2));
+
+        assertEquals(1L, service.create(req(2), PRINCIPAL, "k1").id());
+        assertEquals(2L, service.create(req(2), "outro@ifrn.edu.br", "k1").id());
+
+        assertNotEquals(K1, other);
+        assertTrue(K1.length() <= ReservationIdempotencyService.MAX_KEY_LENGTH);
+    }
+
+    @Test
+    @DisplayName("replay deve devolver o resultado guardado sem criar reserva")
+    void replay_knownKey_returnsStoredResult() {
+        var r = req(2);
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+        when(reservationBatcher.create(r, K1)).thenReturn(response(1L, 2));
+        var first = service.create(r, PRINCIPAL, "k1");
+
+        assertSame(first, service.replay(r, PRINCIPAL, "k1").orElseThrow());
+        assertThrows(IllegalArgumentException.class, () -> service.replay(req(3), PRINCIPAL, "k1"));
+        verify(reservationBatcher, times(1)).create(r, K1);
+    }
+
+    @Test
+    @DisplayName("replay de chave nova ou sem chave deve ser vazio")
+    void replay_newKey_isEmpty() {
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.empty());
+
+        assertTrue(service.replay(req(2), PRINCIPAL, "k1").isEmpty());
+        assertTrue(service.replay(req(2), PRINCIPAL, null).isEmpty());
+        verifyNoInteractions(reservationBatcher);
+    }
+
+    @Test
+    @DisplayName("replay deve achar no banco a chave que saiu da memória")
+    void replay_keyInDatabase_returnsIt() {
+        when(reservationService.findByIdempotencyKey(K1)).thenReturn(Optional.of(response(7L, 2)));
+
+        assertEquals(7L, service.replay(req(2), PRINCIPAL, "k1").orElseThrow().id());
+        verifyNoInteractions(reservationBatcher);
+    }
+
+    @Test
+    @DisplayName("chave vazia ou longa demais deve lançar IllegalArgumentException")
+    void create_invalidKey_throws() {
+        assertThrows(IllegalArgumentException.class, () -> service.create(req(1), PRINCIPAL, " "));
+        assertThrows(IllegalArgumentException.class, () -> service.create(req(1), PRINCIPAL, "x".repeat(101)));
+        verifyNoInteractions(reservationBatcher, reservationService);
+    }
+
+    @Test
+    @DisplayName("o armazenamento deve respeitar o limite de entradas")
+    void create_evictsOldestBeyondMaxEntries() {
+        when(reservationService.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
+        when(reservationBatcher.create(any(), anyString())).thenReturn(response(1L, 1));
+
+        service.create(req(1), PRINCIPAL, "k1");
+        service.create(req(1), PRINCIPAL, "k2");
+        service.create(req(1), PRINCIPAL, "k3");
+
+        assertEquals(2, service.size());
+    }
+}
@@ -0,0 +1,72 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.support.MappedJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private ReservationJournal journal(boolean enabled) throws IOException {
+        return new ReservationJournal(enabled, dir.toString(), 1, MappedJournal.FsyncPolicy.NEVER, 1000);
+    }
+
+    @Test
+    @DisplayName("replay deve reconstruir os lugares ocupados por sessão")
+    void replay_rebuildsSeatCounts() throws IOException {
+        ReservationJournal journal = journal(true);
+        journal.record(ReservationJournal.Type.CREATED, 1L, 10L, 2, UUID.randomUUID());
+        journal.record(ReservationJournal.Type.HELD, 2L, 10L, 3, UUID.randomUUID());
+        journal.record(ReservationJournal.Type.CONFIRMED, 2L, 10L, 3, UUID.randomUUID());
+        journal.record(ReservationJournal.Type.CANCELED, 1L, 10L, 2, UUID.randomUUID());
+        journal.record(ReservationJournal.Type.HELD, 3L, 20L, 4, UUID.randomUUID());
+        journal.record(ReservationJournal.Type.EXPIRED, 3L, 20L, 4, UUID.randomUUID());
+        journal.close();
+
+        assertEquals(Map.of(10L, 3L, 20L, 0L), ReservationJournal.replaySeatCounts(dir));
+    }
+
+    @Test
+    @DisplayName("dentro de transação o registro só deve ser gravado após o commit")
+    void record_inTransaction_appendsAfterCommit() throws IOException {
+        ReservationJournal journal = journal(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            journal.record(ReservationJournal.Type.CREATED, 1L, 10L, 2, UUID.randomUUID());
+            assertTrue(journal.replaySeatCounts().isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(Map.of(10L, 2L), journal.replaySeatCounts());
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("journal desabilitado não deve criar arquivos nem permitir replay")
+    void disabled_isNoop() throws IOException {
+        ReservationJournal journal = journal(false);
+        journal.record(ReservationJournal.Type.CREATED, 1L, 10L, 2, UUID.randomUUID());
+
+        assertFalse(journal.isEnabled());
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+        assertThrows(IllegalArgumentException.class, journal::replaySeatCounts);
+    }
+}
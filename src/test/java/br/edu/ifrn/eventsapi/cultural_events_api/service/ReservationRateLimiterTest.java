@@ -0,0 +1,100 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.RateLimitExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReservationRateLimiterTest {
+
+    @Test
+    @DisplayName("deve recusar com Retry-After quando o usuário esgota o bucket")
+    void check_principalExhausted_throws() {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(true, 2, 0.5, 100);
+
+        limiter.check("user@ifrn.edu.br", "a@ifrn.edu.br");
+        limiter.check("user@ifrn.edu.br", "b@ifrn.edu.br");
+        var ex = assertThrows(RateLimitExceededException.class,
+                () -> limiter.check("user@ifrn.edu.br", "c@ifrn.edu.br"));
+
+        assertEquals(2, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("o mesmo customerEmail deve ser limitado mesmo vindo de contas diferentes")
+    void check_emailSharedAcrossPrincipals_throws() {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(true, 1, 1, 100);
+
+        limiter.check("u1", "Cliente@ifrn.edu.br");
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.check("u2", "cliente@ifrn.edu.br"));
+    }
+
+    @Test
+    @DisplayName("recusa pelo limite do e-mail não deve consumir o bucket do usuário")
+    void check_emailRejected_refundsPrincipal() {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(true, 1, 0.001, 100);
+        limiter.check("u1", "cliente@ifrn.edu.br");
+
+        assertThrows(RateLimitExceededException.class, () -> limiter.check("u2", "cliente@ifrn.edu.br"));
+
+        assertDoesNotThrow(() -> limiter.check("u2", "outro@ifrn.edu.br"));
+    }
+
+    @Test
+    @DisplayName("o mapa de buckets deve respeitar o limite de chaves")
+    void check_boundsTrackedKeys() {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(true, 5, 1, 3);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.check("u" + i, null);
+        }
+
+        assertEquals(3, limiter.trackedKeys());
+    }
+
+    @Test
+    @DisplayName("chamadas concorrentes na mesma chave devem consumir exatamente a capacidade")
+    void check_concurrentSameKey_grantsCapacity() throws Exception {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(true, 50, 0.001, 100);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(pool.submit(() -> {
+                    try {
+                        limiter.check("user@ifrn.edu.br", null);
+                        granted.incrementAndGet();
+                    } catch (RateLimitExceededException ignored) {
+                    }
+                }));
+            }
+            for (Future<?> f : futures) f.get(5, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(50, granted.get());
+    }
+
+    @Test
+    @DisplayName("desabilitado não deve limitar")
+    void check_disabled_neverThrows() {
+        ReservationRateLimiter limiter = new ReservationRateLimiter(false, 1, 1, 100);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.check("u1", "a@ifrn.edu.br");
+        }
+        assertEquals(0, limiter.trackedKeys());
+    }
+}
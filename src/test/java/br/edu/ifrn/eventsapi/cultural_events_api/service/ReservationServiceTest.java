@@ -1,18 +1,28 @@
 package br.edu.ifrn.eventsapi.cultural_events_api.service;
 
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartCheckoutRequest;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.CartLineRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.request.ReservationCreateRequest;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.AvailabilityResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationPage;
 import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
 import br.edu.ifrn.eventsapi.cultural_events_api.model.*;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
 import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionSeats;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -25,12 +35,42 @@ class ReservationServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    SessionRepository sessionRepository;
+
     @Mock
     SessionService sessionService;
 
+    @Mock
+    ReservationLock reservationLock;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    TicketCodeIndex ticketCodeIndex;
+
+    @Mock
+    ReservationCodeGenerator codeGenerator;
+
+    @Mock
+    ReservationJournal journal;
+
+    @Mock
+    CustomerTicketCountRepository customerTicketCountRepository;
+
     @InjectMocks
     ReservationService service;
 
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(service, "holdTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(service, "maxAvailabilitySessions", 3);
+        ReflectionTestUtils.setField(service, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(service, "maxPageSize", 200);
+        ReflectionTestUtils.setField(service, "maxCartLines", 3);
+    }
+
     private ReservationCreateRequest req(Long sessionId, int qty) {
         return new ReservationCreateRequest(
                 sessionId,
@@ -58,6 +98,14 @@ class ReservationServiceTest {
                 .build();
     }
 
+    private SessionSeats seats(Long sessionId, int capacity, int reserved) {
+        return new SessionSeats() {
+            public Long getSessionId() { return sessionId; }
+            public Integer getCapacity() { return capacity; }
+            public Integer getReservedSeats() { return reserved; }
+        };
+    }
+
     private Reservation reservation(Long id, Session session, ReservationStatus status) {
         return Reservation.builder()
                 .id(id)
@@ -78,8 +126,8 @@ class ReservationServiceTest {
         Session s = session(sessionId, 100);
 
         when(sessionService.findEntity(sessionId)).thenReturn(s);
-        when(reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE))
-                .thenReturn(20L);
+        when(customerTicketCountRepository.tryAddTickets(eq(sessionId), anyString(), anyInt())).thenReturn(1);
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(1);
         when(reservationRepository.save(any(Reservation.class)))
                 .thenAnswer(inv -> {
                     Reservation r = inv.getArgument(0);
@@ -96,10 +144,12 @@ class ReservationServiceTest {
         assertEquals(2, res.quantity());
         assertEquals(ReservationStatus.ACTIVE, res.status());
 
+        verify(reservationLock).acquire(sessionId);
         verify(sessionService).findEntity(sessionId);
-        verify(reservationRepository).sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
+        verify(sessionRepository).tryReserveSeats(sessionId, 2);
         verify(reservationRepository).save(any(Reservation.class));
-        verifyNoMoreInteractions(sessionService, reservationRepository);
+        verify(journal).record(eq(ReservationJournal.Type.CREATED), eq(1L), eq(sessionId), eq(2), any(UUID.class));
+        verifyNoMoreInteractions(sessionService, sessionRepository, reservationRepository);
     }
 
     @Test
@@ -109,8 +159,8 @@ class ReservationServiceTest {
         Session s = session(sessionId, 10);
 
         when(sessionService.findEntity(sessionId)).thenReturn(s);
-        when(reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE))
-                .thenReturn(9L);
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(0);
+        when(sessionRepository.findSeatsById(sessionId)).thenReturn(Optional.of(seats(sessionId, 10, 9)));
 
         var ex = assertThrows(IllegalArgumentException.class,
                 () -> service.create(req(sessionId, 2)));
@@ -118,50 +168,255 @@ class ReservationServiceTest {
         assertEquals("Not enough seats. Available: 1", ex.getMessage());
 
         verify(sessionService).findEntity(sessionId);
-        verify(reservationRepository).sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
+        verify(sessionRepository).tryReserveSeats(sessionId, 2);
+        verify(sessionRepository).findSeatsById(sessionId);
+        verify(reservationRepository, never()).save(any());
+        verifyNoMoreInteractions(sessionService, sessionRepository, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("create com Idempotency-Key deve gravar a chave na reserva")
+    void create_withIdempotencyKey_storesKey() {
+        Long sessionId = 10L;
+        when(sessionService.findEntity(sessionId)).thenReturn(session(sessionId, 100));
+        when(customerTicketCountRepository.tryAddTickets(eq(sessionId), anyString(), anyInt())).thenReturn(1);
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(1);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.create(req(sessionId, 2), "chave-1");
+
+        verify(reservationRepository).save(argThat(r -> "chave-1".equals(r.getIdempotencyKey())));
+    }
+
+    @Test
+    @DisplayName("createBatch deve aceitar em ordem de chegada e reservar o lote com um único update")
+    void createBatch_acceptsInArrivalOrder() {
+        Long sessionId = 10L;
+        Session s = session(sessionId, 10);
+
+        when(sessionService.findEntity(sessionId)).thenReturn(s);
+        when(customerTicketCountRepository.tryAddTickets(eq(sessionId), anyString(), anyInt())).thenReturn(1);
+        when(sessionRepository.findSeatsById(sessionId)).thenReturn(Optional.of(seats(sessionId, 10, 5)));
+        when(sessionRepository.tryReserveSeats(sessionId, 4)).thenReturn(1);
+        when(reservationRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Reservation> rs = inv.getArgument(0);
+            long id = 1;
+            for (Reservation r : rs) r.setId(id++);
+            return rs;
+        });
+
+        List<ReservationBatchResult> res = service.createBatch(sessionId, List.of(req(sessionId, 3), req(sessionId, 3), req(sessionId, 1)));
+
+        assertEquals(3, res.size());
+        assertTrue(res.get(0).isAccepted());
+        assertEquals(1L, res.get(0).reservation().id());
+        assertFalse(res.get(1).isAccepted());
+        assertEquals("Not enough seats. Available: 2", res.get(1).rejection());
+        assertTrue(res.get(2).isAccepted());
+        assertEquals(2L, res.get(2).reservation().id());
+
+        verify(reservationLock).acquire(sessionId);
+        verify(sessionRepository).tryReserveSeats(sessionId, 4);
+        verify(reservationRepository).saveAll(anyList());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createBatch deve reservar um a um quando o contador mudou por fora do lote")
+    void createBatch_fallsBackWhenCounterMoved() {
+        Long sessionId = 10L;
+        Session s = session(sessionId, 10);
+
+        when(sessionService.findEntity(sessionId)).thenReturn(s);
+        when(customerTicketCountRepository.tryAddTickets(eq(sessionId), anyString(), anyInt())).thenReturn(1);
+        when(sessionRepository.findSeatsById(sessionId))
+                .thenReturn(Optional.of(seats(sessionId, 10, 6)), Optional.of(seats(sessionId, 10, 9)));
+        when(sessionRepository.tryReserveSeats(sessionId, 4)).thenReturn(0);
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(1, 0);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> {
+            Reservation r = inv.getArgument(0);
+            r.setId(7L);
+            return r;
+        });
+
+        List<ReservationBatchResult> res = service.createBatch(sessionId, List.of(req(sessionId, 2), req(sessionId, 2)));
+
+        assertTrue(res.get(0).isAccepted());
+        assertFalse(res.get(1).isAccepted());
+        assertEquals("Not enough seats. Available: 1", res.get(1).rejection());
+        verify(reservationRepository, never()).saveAll(anyList());
+        verify(customerTicketCountRepository, times(1)).tryAddTickets(sessionId, "cliente@ifrn.edu.br", 2);
+        verify(customerTicketCountRepository, never()).releaseTickets(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("create deve lançar erro quando o cliente atinge o limite de ingressos do evento")
+    void create_customerTicketLimit() {
+        Long sessionId = 10L;
+        when(sessionService.findEntity(sessionId)).thenReturn(session(sessionId, 100));
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(1);
+        when(customerTicketCountRepository.tryAddTickets(sessionId, "cliente@ifrn.edu.br", 2)).thenReturn(0);
+        when(customerTicketCountRepository.findMaxTicketsPerCustomer(sessionId)).thenReturn(Optional.of(4));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.create(req(sessionId, 2)));
+
+        assertEquals("Ticket limit per customer reached. Max: 4", ex.getMessage());
         verify(reservationRepository, never()).save(any());
-        verifyNoMoreInteractions(sessionService, reservationRepository);
     }
 
     @Test
-    @DisplayName("list deve retornar por email quando informado")
+    @DisplayName("createBatch deve recusar só o pedido que passa do limite por cliente")
+    void createBatch_rejectsOverCustomerLimit() {
+        Long sessionId = 10L;
+        when(sessionService.findEntity(sessionId)).thenReturn(session(sessionId, 10));
+        when(sessionRepository.findSeatsById(sessionId)).thenReturn(Optional.of(seats(sessionId, 10, 0)));
+        when(customerTicketCountRepository.tryAddTickets(sessionId, "cliente@ifrn.edu.br", 2)).thenReturn(1, 0);
+        when(customerTicketCountRepository.findMaxTicketsPerCustomer(sessionId)).thenReturn(Optional.of(2));
+        when(sessionRepository.tryReserveSeats(sessionId, 4)).thenReturn(1);
+        when(reservationRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<ReservationBatchResult> res = service.createBatch(sessionId, List.of(req(sessionId, 2), req(sessionId, 2)));
+
+        assertTrue(res.get(0).isAccepted());
+        assertFalse(res.get(1).isAccepted());
+        assertEquals("Ticket limit per customer reached. Max: 2", res.get(1).rejection());
+        var order = inOrder(sessionRepository, customerTicketCountRepository);
+        order.verify(sessionRepository).tryReserveSeats(sessionId, 4);
+        order.verify(customerTicketCountRepository, times(2)).tryAddTickets(sessionId, "cliente@ifrn.edu.br", 2);
+        order.verify(sessionRepository).releaseSeats(sessionId, 2);
+    }
+
+    private Session session(Long id, Long eventId) {
+        Session s = session(id, 100);
+        s.setEvent(Event.builder().id(eventId).title("Festival").build());
+        return s;
+    }
+
+    private CartCheckoutRequest cart(CartLineRequest... lines) {
+        return new CartCheckoutRequest("Cliente 1", "cliente@ifrn.edu.br", List.of(lines));
+    }
+
+    @Test
+    @DisplayName("checkout deve travar e reservar as sessões em ordem crescente, somando as linhas de cada sessão")
+    void checkout_reservesInSessionOrder() {
+        when(sessionService.findEntity(10L)).thenReturn(session(10L, 2L));
+        when(sessionService.findEntity(20L)).thenReturn(session(20L, 1L));
+        when(sessionRepository.tryReserveSeats(anyLong(), anyInt())).thenReturn(1);
+        when(customerTicketCountRepository.tryAddTickets(anyLong(), anyString(), anyInt())).thenReturn(1);
+        when(reservationRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<ReservationResponse> res = service.checkout(cart(
+                new CartLineRequest(20L, 2), new CartLineRequest(10L, 1), new CartLineRequest(20L, 1)));
+
+        assertEquals(List.of(20L, 10L, 20L), res.stream().map(ReservationResponse::sessionId).toList());
+        assertEquals(List.of(2, 1, 1), res.stream().map(ReservationResponse::quantity).toList());
+
+        var order = inOrder(reservationLock, sessionRepository, customerTicketCountRepository);
+        order.verify(reservationLock).acquireAll(Set.of(10L, 20L));
+        order.verify(sessionRepository).tryReserveSeats(10L, 1);
+        order.verify(sessionRepository).tryReserveSeats(20L, 3);
+        order.verify(customerTicketCountRepository).tryAddTickets(20L, "cliente@ifrn.edu.br", 3);
+        order.verify(customerTicketCountRepository).tryAddTickets(10L, "cliente@ifrn.edu.br", 1);
+        verify(reservationRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("checkout deve falhar inteiro quando uma sessão não tem vagas")
+    void checkout_notEnoughSeats_failsWholeCart() {
+        when(sessionService.findEntity(10L)).thenReturn(session(10L, 1L));
+        when(sessionService.findEntity(20L)).thenReturn(session(20L, 1L));
+        when(sessionRepository.tryReserveSeats(10L, 2)).thenReturn(1);
+        when(sessionRepository.tryReserveSeats(20L, 2)).thenReturn(0);
+        when(sessionRepository.findSeatsById(20L)).thenReturn(Optional.of(seats(20L, 10, 9)));
+
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> service.checkout(cart(new CartLineRequest(10L, 2), new CartLineRequest(20L, 2))));
+
+        assertEquals("Not enough seats in session 20. Available: 1", ex.getMessage());
+        verify(customerTicketCountRepository, never()).tryAddTickets(anyLong(), anyString(), anyInt());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("checkout deve limitar o número de linhas do carrinho")
+    void checkout_tooManyLines() {
+        var line = new CartLineRequest(10L, 1);
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.checkout(cart(line, line, line, line)));
+
+        assertEquals("Too many cart lines. Max: 3", ex.getMessage());
+        verifyNoInteractions(reservationLock, sessionRepository);
+    }
+
+    @Test
+    @DisplayName("list deve retornar a primeira página por email quando informado")
     void list_withEmail() {
         String email = "cliente@ifrn.edu.br";
         Session s = session(1L, 100);
 
-        when(reservationRepository.findByCustomerEmail(email))
+        when(reservationRepository.findFirstPageByEmail(email, 3))
                 .thenReturn(List.of(reservation(1L, s, ReservationStatus.ACTIVE)));
 
-        List<ReservationResponse> res = service.list(email);
+        ReservationPage res = service.list(email, null, 2);
 
-        assertEquals(1, res.size());
-        assertEquals(email, res.get(0).customerEmail());
+        assertEquals(1, res.items().size());
+        assertEquals(email, res.items().get(0).customerEmail());
+        assertNull(res.nextCursor());
 
-        verify(reservationRepository).findByCustomerEmail(email);
+        verify(reservationRepository).findFirstPageByEmail(email, 3);
         verifyNoMoreInteractions(reservationRepository);
         verifyNoInteractions(sessionService);
     }
 
     @Test
-    @DisplayName("list deve retornar todos quando email é null")
+    @DisplayName("list sem email deve paginar todas as reservas e devolver o cursor da próxima página")
     void list_withoutEmail() {
         Session s = session(1L, 100);
 
-        when(reservationRepository.findAll())
+        when(reservationRepository.findFirstPage(3))
                 .thenReturn(List.of(
-                        reservation(1L, s, ReservationStatus.ACTIVE),
-                        reservation(2L, s, ReservationStatus.CANCELED)
+                        reservation(3L, s, ReservationStatus.ACTIVE),
+                        reservation(2L, s, ReservationStatus.CANCELED),
+                        reservation(1L, s, ReservationStatus.ACTIVE)
                 ));
 
-        List<ReservationResponse> res = service.list(null);
+        ReservationPage res = service.list(null, null, 2);
 
-        assertEquals(2, res.size());
+        assertEquals(2, res.items().size());
+        assertNotNull(res.nextCursor());
+        assertEquals(new ReservationCursor(LocalDateTime.of(2026, 2, 10, 10, 0), 2L),
+                ReservationCursor.decode(res.nextCursor()));
 
-        verify(reservationRepository).findAll();
+        verify(reservationRepository).findFirstPage(3);
         verifyNoMoreInteractions(reservationRepository);
         verifyNoInteractions(sessionService);
     }
 
+    @Test
+    @DisplayName("list com cursor deve buscar somente as linhas anteriores ao cursor")
+    void list_withCursor_seeksPastCursor() {
+        String email = "cliente@ifrn.edu.br";
+        LocalDateTime createdAt = LocalDateTime.of(2026, 2, 10, 10, 0);
+        String cursor = new ReservationCursor(createdAt, 9L).encode();
+
+        when(reservationRepository.findPageByEmailBefore(email, createdAt, 9L, 51)).thenReturn(List.of());
+
+        ReservationPage res = service.list(email, cursor, null);
+
+        assertTrue(res.items().isEmpty());
+        assertNull(res.nextCursor());
+    }
+
+    @Test
+    @DisplayName("list com tamanho acima do máximo ou cursor inválido deve lançar IllegalArgumentException")
+    void list_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> service.list(null, null, 201));
+        assertThrows(IllegalArgumentException.class, () -> service.list(null, null, 0));
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.list(null, "%%%", 10));
+        assertEquals("Invalid cursor", ex.getMessage());
+        verifyNoInteractions(reservationRepository);
+    }
+
     @Test
     @DisplayName("get deve retornar reserva quando existe")
     void get_ok() {
@@ -199,9 +454,7 @@ class ReservationServiceTest {
     void availability_ok() {
         Long sessionId = 20L;
 
-        when(sessionService.findEntity(sessionId)).thenReturn(session(sessionId, 100));
-        when(reservationRepository.sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE))
-                .thenReturn(30L);
+        when(sessionRepository.findSeatsById(sessionId)).thenReturn(Optional.of(seats(sessionId, 100, 30)));
 
         AvailabilityResponse res = service.availability(sessionId);
 
@@ -209,9 +462,52 @@ class ReservationServiceTest {
         assertEquals(30L, res.reservedActive());
         assertEquals(70L, res.available());
 
-        verify(sessionService).findEntity(sessionId);
-        verify(reservationRepository).sumQuantityBySessionAndStatus(sessionId, ReservationStatus.ACTIVE);
-        verifyNoMoreInteractions(sessionService, reservationRepository);
+        verify(sessionRepository).findSeatsById(sessionId);
+        verifyNoMoreInteractions(sessionRepository);
+        verifyNoInteractions(sessionService, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("availability deve lançar erro quando a sessão não existe")
+    void availability_notFound() {
+        when(sessionRepository.findSeatsById(99L)).thenReturn(Optional.empty());
+
+        var ex = assertThrows(EntityNotFoundException.class, () -> service.availability(99L));
+        assertEquals("Session not found: 99", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("availability em lote deve usar uma consulta e responder na ordem pedida")
+    void availability_many_inRequestOrder() {
+        when(sessionRepository.findSeatsByIdIn(Set.of(1L, 2L)))
+                .thenReturn(List.of(seats(2L, 50, 50), seats(1L, 100, 10)));
+
+        List<AvailabilityResponse> res = service.availability(List.of(2L, 1L, 2L));
+
+        assertEquals(List.of(2L, 1L, 2L), res.stream().map(AvailabilityResponse::sessionId).toList());
+        assertEquals(0L, res.get(0).available());
+        assertEquals(90L, res.get(1).available());
+
+        verify(sessionRepository).findSeatsByIdIn(Set.of(1L, 2L));
+        verifyNoMoreInteractions(sessionRepository);
+        verifyNoInteractions(sessionService, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("availability em lote deve falhar para sessão inexistente")
+    void availability_many_notFound() {
+        when(sessionRepository.findSeatsByIdIn(Set.of(1L, 9L))).thenReturn(List.of(seats(1L, 100, 0)));
+
+        var ex = assertThrows(EntityNotFoundException.class, () -> service.availability(List.of(1L, 9L)));
+        assertEquals("Session not found: 9", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("availability em lote deve limitar o número de sessões")
+    void availability_many_tooMany() {
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.availability(List.of(1L, 2L, 3L, 4L)));
+        assertEquals("Too many sessions. Max: 3", ex.getMessage());
+        verifyNoInteractions(sessionRepository);
     }
 
     @Test
@@ -221,7 +517,7 @@ class ReservationServiceTest {
         Session s = session(1L, 10);
         Reservation r = reservation(id, s, ReservationStatus.ACTIVE);
 
-        when(reservationRepository.findById(id)).thenReturn(Optional.of(r));
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
         when(reservationRepository.save(r)).thenReturn(r);
 
         ReservationResponse res = service.cancel(id);
@@ -229,12 +525,154 @@ class ReservationServiceTest {
         assertEquals(ReservationStatus.CANCELED, res.status());
         assertEquals(ReservationStatus.CANCELED, r.getStatus());
 
-        verify(reservationRepository).findById(id);
+        verify(reservationRepository).findByIdForUpdate(id);
+        verify(sessionRepository).releaseSeats(1L, 2);
         verify(reservationRepository).save(r);
-        verifyNoMoreInteractions(reservationRepository);
+        verify(journal).record(ReservationJournal.Type.CANCELED, id, 1L, 2, r.getCode());
+        verify(customerTicketCountRepository).releaseTickets(1L, "cliente@ifrn.edu.br", 2);
+        verifyNoMoreInteractions(reservationRepository, sessionRepository);
         verifyNoInteractions(sessionService);
     }
 
+    @Test
+    @DisplayName("cancel não deve liberar assentos de reserva já cancelada")
+    void cancel_alreadyCanceled() {
+        Long id = 9L;
+        Session s = session(1L, 10);
+        Reservation r = reservation(id, s, ReservationStatus.CANCELED);
+
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
+        when(reservationRepository.save(r)).thenReturn(r);
+
+        ReservationResponse res = service.cancel(id);
+
+        assertEquals(ReservationStatus.CANCELED, res.status());
+        verify(sessionRepository, never()).releaseSeats(anyLong(), anyInt());
+        verifyNoInteractions(journal);
+    }
+
+    @Test
+    @DisplayName("cancel deve liberar assentos de pré-reserva e cancelar a expiração")
+    void cancel_held() {
+        Long id = 11L;
+        Reservation r = reservation(id, session(1L, 10), ReservationStatus.HELD);
+
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
+        when(reservationRepository.save(r)).thenReturn(r);
+
+        service.cancel(id);
+
+        verify(sessionRepository).releaseSeats(1L, 2);
+        verify(eventPublisher).publishEvent(new HoldReleasedEvent(id));
+        assertEquals(ReservationStatus.CANCELED, r.getStatus());
+    }
+
+    @Test
+    @DisplayName("hold deve reservar assentos, gravar HELD com expiração e agendar expiração")
+    void hold_ok() {
+        Long sessionId = 10L;
+        Session s = session(sessionId, 100);
+
+        when(sessionService.findEntity(sessionId)).thenReturn(s);
+        when(customerTicketCountRepository.tryAddTickets(eq(sessionId), anyString(), anyInt())).thenReturn(1);
+        when(sessionRepository.tryReserveSeats(sessionId, 2)).thenReturn(1);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(inv -> {
+            Reservation r = inv.getArgument(0);
+            r.setId(3L);
+            return r;
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        ReservationResponse res = service.hold(req(sessionId, 2));
+
+        assertEquals(ReservationStatus.HELD, res.status());
+        assertNotNull(res.expiresAt());
+        assertFalse(res.expiresAt().isBefore(before.plusMinutes(10)));
+        verify(reservationLock).acquire(sessionId);
+        verify(eventPublisher).publishEvent(new HoldPlacedEvent(3L, res.expiresAt()));
+    }
+
+    @Test
+    @DisplayName("hold deve falhar quando não há vagas")
+    void hold_notEnoughSeats() {
+        Long sessionId = 10L;
+
+        when(sessionService.findEntity(sessionId)).thenReturn(session(sessionId, 5));
+        when(sessionRepository.tryReserveSeats(sessionId, 6)).thenReturn(0);
+        when(sessionRepository.findSeatsById(sessionId)).thenReturn(Optional.of(seats(sessionId, 5, 0)));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.hold(req(sessionId, 6)));
+        assertEquals("Not enough seats. Available: 5", ex.getMessage());
+        verify(reservationRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("confirm deve transformar pré-reserva em ACTIVE")
+    void confirm_ok() {
+        Long id = 4L;
+        Reservation r = reservation(id, session(1L, 10), ReservationStatus.HELD);
+        r.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
+        when(reservationRepository.save(r)).thenReturn(r);
+
+        ReservationResponse res = service.confirm(id);
+
+        assertEquals(ReservationStatus.ACTIVE, res.status());
+        assertNull(res.expiresAt());
+        verify(sessionRepository, never()).releaseSeats(anyLong(), anyInt());
+        verify(eventPublisher).publishEvent(new HoldReleasedEvent(id));
+    }
+
+    @Test
+    @DisplayName("confirm deve expirar e recusar pré-reserva vencida")
+    void confirm_expired() {
+        Long id = 4L;
+        Reservation r = reservation(id, session(1L, 10), ReservationStatus.HELD);
+        r.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.confirm(id));
+
+        assertEquals("Hold expired: 4", ex.getMessage());
+        assertEquals(ReservationStatus.CANCELED, r.getStatus());
+        verify(sessionRepository).releaseSeats(1L, 2);
+        verify(reservationRepository).save(r);
+    }
+
+    @Test
+    @DisplayName("confirm deve recusar reserva que não está HELD")
+    void confirm_notHeld() {
+        Long id = 4L;
+        Reservation r = reservation(id, session(1L, 10), ReservationStatus.ACTIVE);
+
+        when(reservationRepository.findByIdForUpdate(id)).thenReturn(Optional.of(r));
+
+        var ex = assertThrows(IllegalArgumentException.class, () -> service.confirm(id));
+        assertEquals("Reservation is not held: 4", ex.getMessage());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("expireHold deve liberar assentos apenas se a reserva ainda estiver HELD")
+    void expireHold_onlyHeld() {
+        Reservation held = reservation(1L, session(1L, 10), ReservationStatus.HELD);
+        Reservation active = reservation(2L, session(1L, 10), ReservationStatus.ACTIVE);
+
+        when(reservationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(held));
+        when(reservationRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(active));
+
+        service.expireHold(1L);
+        service.expireHold(2L);
+
+        assertEquals(ReservationStatus.CANCELED, held.getStatus());
+        assertEquals(ReservationStatus.ACTIVE, active.getStatus());
+        verify(sessionRepository, times(1)).releaseSeats(1L, 2);
+        verify(reservationRepository, times(1)).save(held);
+    }
+
     @Test
     @DisplayName("ticket deve retornar reserva pelo código")
     void ticket_ok() {
@@ -243,6 +681,8 @@ class ReservationServiceTest {
         Reservation r = reservation(1L, s, ReservationStatus.ACTIVE);
         r.setCode(code);
 
+        when(ticketCodeIndex.mightExist(code)).thenReturn(true);
+        when(ticketCodeIndex.stamp()).thenReturn(4L);
         when(reservationRepository.findByCode(code)).thenReturn(Optional.of(r));
 
         ReservationResponse res = service.ticket(code);
@@ -251,7 +691,58 @@ class ReservationServiceTest {
         assertEquals(3L, res.sessionId());
 
         verify(reservationRepository).findByCode(code);
+        verify(ticketCodeIndex).cache(res, 4L);
         verifyNoMoreInteractions(reservationRepository);
         verifyNoInteractions(sessionService);
     }
+
+    @Test
+    @DisplayName("ticket com código fora do filtro deve lançar EntityNotFoundException sem consultar o banco")
+    void ticket_unknownCode_skipsQuery() {
+        UUID code = UUID.randomUUID();
+        when(ticketCodeIndex.mightExist(code)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> service.ticket(code));
+
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("ticket em cache deve ser respondido sem consultar o banco")
+    void ticket_cached_skipsQuery() {
+        UUID code = UUID.randomUUID();
+        ReservationResponse cached = new ReservationResponse(1L, 3L, "Cliente 1", "cliente@ifrn.edu.br", 2,
+                ReservationStatus.ACTIVE, code, LocalDateTime.now(), null);
+        when(ticketCodeIndex.mightExist(code)).thenReturn(true);
+        when(ticketCodeIndex.cached(code)).thenReturn(cached);
+
+        assertSame(cached, service.ticket(code));
+
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    @DisplayName("currentTicket deve ler o status do banco sem passar pelo filtro nem pelo cache")
+    void currentTicket_readsDatabase() {
+        UUID code = UUID.randomUUID();
+        Reservation r = reservation(1L, session(3L, 20), ReservationStatus.CANCELED);
+        r.setCode(code);
+        when(reservationRepository.findByCode(code)).thenReturn(Optional.of(r));
+
+        assertEquals(ReservationStatus.CANCELED, service.currentTicket(code).status());
+
+        verifyNoInteractions(ticketCodeIndex);
+    }
+
+    @Test
+    @DisplayName("cancel deve publicar mudança de status para invalidar o cache de tickets")
+    void cancel_publishesStatusChange() {
+        Reservation r = reservation(1L, session(3L, 20), ReservationStatus.ACTIVE);
+        when(reservationRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(r));
+        when(reservationRepository.save(r)).thenReturn(r);
+
+        service.cancel(1L);
+
+        verify(eventPublisher).publishEvent(new ReservationStatusChangedEvent(1L, r.getCode()));
+    }
 }
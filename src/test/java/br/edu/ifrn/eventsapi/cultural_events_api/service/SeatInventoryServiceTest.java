@@ -0,0 +1,94 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.JournalReplayResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatBackfillResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.SeatDriftResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.CustomerTicketCountRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SeatDrift;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionSeats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatInventoryServiceTest {
+
+    @Mock
+    SessionRepository sessionRepository;
+
+    @Mock
+    ReservationJournal reservationJournal;
+
+    @Mock
+    CustomerTicketCountRepository customerTicketCountRepository;
+
+    @InjectMocks
+    SeatInventoryService service;
+
+    private SeatDrift drift(Long sessionId, int counted, long actual) {
+        return new SeatDrift() {
+            public Long getSessionId() { return sessionId; }
+            public Integer getCounted() { return counted; }
+            public Long getActual() { return actual; }
+        };
+    }
+
+    @Test
+    @DisplayName("backfill deve recalcular os contadores de sessão e por cliente a partir das reservas ativas e pré-reservas")
+    void backfill_ok() {
+        when(sessionRepository.recountReservedSeats(ReservationStatus.HOLDING_SEATS)).thenReturn(3);
+        when(customerTicketCountRepository.recountTickets(List.of("ACTIVE", "HELD"))).thenReturn(2);
+        when(customerTicketCountRepository.clearStaleTickets(List.of("ACTIVE", "HELD"))).thenReturn(1);
+
+        SeatBackfillResponse res = service.backfill();
+
+        assertEquals(3, res.sessionsUpdated());
+        assertEquals(3, res.customerCountsUpdated());
+        verify(sessionRepository).recountReservedSeats(ReservationStatus.HOLDING_SEATS);
+        verifyNoMoreInteractions(sessionRepository);
+    }
+
+    @Test
+    @DisplayName("drift deve listar sessões cujo contador diverge da soma das reservas")
+    void drift_ok() {
+        when(sessionRepository.findSeatDrift(ReservationStatus.HOLDING_SEATS))
+                .thenReturn(List.of(drift(7L, 4, 6L)));
+
+        List<SeatDriftResponse> res = service.drift();
+
+        assertEquals(1, res.size());
+        assertEquals(7L, res.get(0).sessionId());
+        assertEquals(4, res.get(0).reservedSeats());
+        assertEquals(6L, res.get(0).reservedActive());
+        verify(sessionRepository).findSeatDrift(ReservationStatus.HOLDING_SEATS);
+        verifyNoMoreInteractions(sessionRepository);
+    }
+
+    @Test
+    @DisplayName("journalReplay deve comparar os lugares do journal com o contador de cada sessão")
+    void journalReplay_ok() {
+        SessionSeats seats = new SessionSeats() {
+            public Long getSessionId() { return 7L; }
+            public Integer getCapacity() { return 100; }
+            public Integer getReservedSeats() { return 5; }
+        };
+        when(reservationJournal.replaySeatCounts()).thenReturn(Map.of(7L, 5L));
+        when(sessionRepository.findSeatsByIdIn(Set.of(7L))).thenReturn(List.of(seats));
+
+        List<JournalReplayResponse> res = service.journalReplay();
+
+        assertEquals(List.of(new JournalReplayResponse(7L, 5, 5L)), res);
+    }
+}
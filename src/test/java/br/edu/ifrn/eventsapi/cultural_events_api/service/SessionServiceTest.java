@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -34,6 +35,9 @@ class SessionServiceTest {
     @Mock
     VenueRepository venueRepository;
 
+    @Mock
+    CacheManager cacheManager;
+
     @InjectMocks
     SessionService service;
 
@@ -277,11 +281,12 @@ class SessionServiceTest {
     @DisplayName("delete deve deletar quando existe")
     void delete_ok() {
         Long id = 7L;
-        when(sessionRepository.existsById(id)).thenReturn(true);
+        Session s = Session.builder().id(id).event(Event.builder().id(1L).build()).build();
+        when(sessionRepository.findById(id)).thenReturn(Optional.of(s));
 
         service.delete(id);
 
-        verify(sessionRepository).existsById(id);
+        verify(sessionRepository).findById(id);
         verify(sessionRepository).deleteById(id);
         verifyNoMoreInteractions(sessionRepository);
         verifyNoInteractions(eventService, venueRepository);
@@ -291,12 +296,12 @@ class SessionServiceTest {
     @DisplayName("delete deve lançar EntityNotFoundException quando não existe")
     void delete_notFound() {
         Long id = 888L;
-        when(sessionRepository.existsById(id)).thenReturn(false);
+        when(sessionRepository.findById(id)).thenReturn(Optional.empty());
 
         var ex = assertThrows(EntityNotFoundException.class, () -> service.delete(id));
         assertEquals("Session not found: " + id, ex.getMessage());
 
-        verify(sessionRepository).existsById(id);
+        verify(sessionRepository).findById(id);
         verify(sessionRepository, never()).deleteById(anyLong());
         verifyNoMoreInteractions(sessionRepository);
         verifyNoInteractions(eventService, venueRepository);
@@ -0,0 +1,130 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedReservationLockTest {
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void completeTransaction() {
+        var syncs = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        syncs.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    @Test
+    @DisplayName("deve arredondar o número de stripes para potência de dois")
+    void stripes_roundedToPowerOfTwo() {
+        assertEquals(1, new StripedReservationLock(1).stripeCount());
+        assertEquals(8, new StripedReservationLock(5).stripeCount());
+        assertEquals(1024, new StripedReservationLock(1024).stripeCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedReservationLock(0));
+    }
+
+    @Test
+    @DisplayName("acquire deve exigir transação ativa")
+    void acquire_requiresTransaction() {
+        var lock = new StripedReservationLock(16);
+
+        var ex = assertThrows(IllegalStateException.class, () -> lock.acquire(1L));
+        assertEquals("Reservation lock requires an active transaction", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("acquire deve manter o lock até o fim da transação")
+    void acquire_holdsUntilCompletion() {
+        var lock = new StripedReservationLock(16);
+        TransactionSynchronizationManager.initSynchronization();
+
+        lock.acquire(42L);
+
+        assertTrue(lock.stripeFor(42L).isHeldByCurrentThread());
+        boolean acquiredElsewhere = CompletableFuture
+                .supplyAsync(() -> lock.stripeFor(42L).tryLock())
+                .join();
+        assertFalse(acquiredElsewhere);
+
+        completeTransaction();
+
+        assertFalse(lock.stripeFor(42L).isLocked());
+    }
+
+    @Test
+    @DisplayName("sessões em stripes diferentes não devem se bloquear")
+    void acquire_otherStripesStayFree() throws Exception {
+        var lock = new StripedReservationLock(1024);
+        long other = 2L;
+        while (lock.stripeFor(other) == lock.stripeFor(1L)) other++;
+        long otherSession = other;
+
+        TransactionSynchronizationManager.initSynchronization();
+        lock.acquire(1L);
+
+        boolean acquired = CompletableFuture.supplyAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                lock.acquire(otherSession);
+                return lock.stripeFor(otherSession).isHeldByCurrentThread();
+            } finally {
+                completeTransaction();
+            }
+        }).get(1, TimeUnit.SECONDS);
+
+        assertTrue(acquired);
+        completeTransaction();
+    }
+
+    @Test
+    @DisplayName("acquireAll deve travar cada stripe uma única vez")
+    void acquireAll_locksSharedStripeOnce() {
+        var lock = new StripedReservationLock(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        lock.acquireAll(List.of(3L, 1L, 2L));
+
+        assertEquals(1, lock.stripeFor(1L).getHoldCount());
+        completeTransaction();
+        assertFalse(lock.stripeFor(1L).isLocked());
+    }
+
+    @Test
+    @DisplayName("acquireAll em ordens opostas não deve causar deadlock")
+    void acquireAll_oppositeOrders_noDeadlock() throws Exception {
+        var lock = new StripedReservationLock(4);
+        List<Long> sessions = LongStream.rangeClosed(1, 16).boxed().toList();
+        List<Long> reversed = sessions.reversed();
+
+        Runnable forward = () -> lockRepeatedly(lock, sessions);
+        Runnable backward = () -> lockRepeatedly(lock, reversed);
+
+        CompletableFuture.allOf(CompletableFuture.runAsync(forward), CompletableFuture.runAsync(backward))
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private void lockRepeatedly(StripedReservationLock lock, List<Long> sessions) {
+        for (int i = 0; i < 2_000; i++) {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                lock.acquireAll(sessions);
+            } finally {
+                completeTransaction();
+            }
+        }
+    }
+}
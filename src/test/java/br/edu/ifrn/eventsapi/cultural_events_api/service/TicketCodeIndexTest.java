@@ -0,0 +1,115 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.dto.response.ReservationResponse;
+import br.edu.ifrn.eventsapi.cultural_events_api.model.ReservationStatus;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationCode;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCodeIndexTest {
+
+    @Mock
+    ReservationRepository reservationRepository;
+
+    TicketCodeIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new TicketCodeIndex(reservationRepository, true, 1000, 0.001, 2, true, 10);
+    }
+
+    private ReservationCode code(long id, UUID code) {
+        return new ReservationCode() {
+            public Long getReservationId() { return id; }
+            public UUID getCode() { return code; }
+        };
+    }
+
+    private ReservationResponse response(UUID code) {
+        return new ReservationResponse(1L, 3L, "Cliente 1", "cliente@ifrn.edu.br", 2,
+                ReservationStatus.ACTIVE, code, LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("load deve percorrer todas as páginas de códigos")
+    void load_readsAllPages() {
+        UUID a = UUID.randomUUID(), b = UUID.randomUUID(), c = UUID.randomUUID();
+        when(reservationRepository.findCodesAfter(eq(0L), any())).thenReturn(List.of(code(1L, a), code(2L, b)));
+        when(reservationRepository.findCodesAfter(eq(2L), any())).thenReturn(List.of(code(5L, c)));
+
+        index.load();
+
+        assertTrue(index.mightExist(a));
+        assertTrue(index.mightExist(b));
+        assertTrue(index.mightExist(c));
+        assertFalse(index.mightExist(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("antes da carga todo código deve ser tratado como possivelmente existente")
+    void mightExist_beforeLoad_isTrue() {
+        assertTrue(index.mightExist(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("códigos adicionados após a carga devem ser encontrados")
+    void add_afterLoad_isVisible() {
+        when(reservationRepository.findCodesAfter(eq(0L), any())).thenReturn(List.of());
+        index.load();
+        UUID code = UUID.randomUUID();
+
+        index.add(code);
+
+        assertTrue(index.mightExist(code));
+    }
+
+    @Test
+    @DisplayName("resultado lido antes de uma invalidação não deve ficar em cache")
+    void cache_staleAfterInvalidation_isDropped() {
+        UUID code = UUID.randomUUID();
+        long stamp = index.stamp();
+
+        index.invalidate(UUID.randomUUID());
+        index.cache(response(code), stamp);
+
+        assertNull(index.cached(code));
+    }
+
+    @Test
+    @DisplayName("com o cache desligado nenhuma resposta deve ser guardada")
+    void cache_disabled_neverStores() {
+        TicketCodeIndex uncached = new TicketCodeIndex(reservationRepository, false, 1000, 0.001, 2, false, 10);
+        UUID code = UUID.randomUUID();
+
+        uncached.cache(response(code), uncached.stamp());
+
+        assertNull(uncached.cached(code));
+        assertTrue(uncached.mightExist(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("mudança de status deve invalidar o ticket em cache")
+    void onStatusChanged_invalidates() {
+        UUID code = UUID.randomUUID();
+        index.cache(response(code), index.stamp());
+        assertNotNull(index.cached(code));
+
+        index.onStatusChanged(new ReservationStatusChangedEvent(1L, code));
+
+        assertNull(index.cached(code));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +24,9 @@ class VenueServiceTest {
     @Mock
     VenueRepository venueRepository;
 
+    @Mock
+    CacheManager cacheManager;
+
     @InjectMocks
     VenueService service;
 
@@ -0,0 +1,167 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.service;
+
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.ConflictException;
+import br.edu.ifrn.eventsapi.cultural_events_api.exception.OutcomeUnknownException;
+import br.edu.ifrn.eventsapi.cultural_events_api.repository.SessionRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomServiceTest {
+
+    @Mock
+    SessionRepository sessionRepository;
+
+    WaitingRoomService service;
+
+    @BeforeEach
+    void setup() {
+        service = new WaitingRoomService(sessionRepository, 1000, 60_000, 10, 1);
+    }
+
+    private void openRoom(Long sessionId) {
+        when(sessionRepository.existsById(sessionId)).thenReturn(true);
+        service.open(sessionId, 1000d);
+    }
+
+    private void admitAll() throws InterruptedException {
+        Thread.sleep(20);
+        service.admit();
+    }
+
+    @Test
+    @DisplayName("sem sala aberta a reserva deve seguir direto")
+    void reserve_withoutRoom_runsAction() {
+        assertEquals("ok", service.reserve(10L, null, "user", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("com sala aberta a reserva deve exigir token")
+    void reserve_withoutToken_throwsConflict() throws Exception {
+        openRoom(10L);
+
+        assertThrows(ConflictException.class, () -> service.reserve(10L, null, "user", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("token admitido deve reservar uma única vez")
+    void reserve_admittedToken_isSingleUse() throws Exception {
+        openRoom(10L);
+        var ticket = service.join(10L, "user");
+        admitAll();
+
+        assertTrue(service.status(10L, ticket.token(), "user").admitted());
+        assertEquals("ok", service.reserve(10L, ticket.token(), "user", () -> "ok"));
+        var ex = assertThrows(ConflictException.class, () -> service.reserve(10L, ticket.token(), "user", () -> "ok"));
+        assertEquals("Queue token already used", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("falha na reserva deve devolver o token para nova tentativa")
+    void reserve_failedAction_releasesToken() throws Exception {
+        openRoom(10L);
+        var ticket = service.join(10L, "user");
+        admitAll();
+
+        assertThrows(IllegalArgumentException.class, () -> service.reserve(10L, ticket.token(), "user", () -> {
+            throw new IllegalArgumentException("Not enough seats. Available: 0");
+        }));
+        assertEquals("ok", service.reserve(10L, ticket.token(), "user", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("resultado desconhecido deve manter o token consumido")
+    void reserve_outcomeUnknown_keepsTokenUsed() throws Exception {
+        openRoom(10L);
+        var ticket = service.join(10L, "user");
+        admitAll();
+
+        assertThrows(OutcomeUnknownException.class, () -> service.reserve(10L, ticket.token(), "user", () -> {
+            throw new OutcomeUnknownException("Timed out waiting for the reservation batch");
+        }));
+        var ex = assertThrows(ConflictException.class, () -> service.reserve(10L, ticket.token(), "user", () -> "ok"));
+        assertEquals("Queue token already used", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("token ainda não admitido deve informar a posição")
+    void reserve_notAdmitted_throwsWithPosition() throws Exception {
+        openRoom(10L);
+        var ticket = service.join(10L, "user");
+        AtomicInteger calls = new AtomicInteger();
+
+        var ex = assertThrows(ConflictException.class,
+                () -> service.reserve(10L, ticket.token(), "user", calls::incrementAndGet));
+
+        assertEquals("Queue token not admitted yet. Position: 1", ex.getMessage());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    @DisplayName("entrar de novo deve devolver a mesma posição até o token ser usado")
+    void join_twice_keepsOnePositionPerPrincipal() throws Exception {
+        openRoom(10L);
+        var first = service.join(10L, "user");
+        var again = service.join(10L, "user");
+        var other = service.join(10L, "outro");
+
+        assertEquals(first.token(), again.token());
+        assertEquals(1, again.position());
+        assertEquals(2, other.position());
+        assertEquals(2L, service.get(10L).waiting());
+
+        admitAll();
+        service.reserve(10L, first.token(), "user", () -> "ok");
+        var next = service.join(10L, "user");
+
+        assertNotEquals(first.token(), next.token());
+        assertEquals(1, next.position());
+    }
+
+    @Test
+    @DisplayName("token de outro usuário, de outra sessão ou adulterado deve ser recusado")
+    void status_foreignOrTamperedToken_throws() throws Exception {
+        openRoom(10L);
+        openRoom(11L);
+        String token = service.join(10L, "user").token();
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThrows(IllegalArgumentException.class, () -> service.status(10L, token, "outro"));
+        assertThrows(IllegalArgumentException.class, () -> service.status(11L, token, "user"));
+        assertThrows(IllegalArgumentException.class, () -> service.status(10L, tampered, "user"));
+        assertThrows(IllegalArgumentException.class, () -> service.status(10L, "lixo", "user"));
+    }
+
+    @Test
+    @DisplayName("reabrir a sala deve invalidar tokens antigos")
+    void close_invalidatesTokens() throws Exception {
+        openRoom(10L);
+        String token = service.join(10L, "user").token();
+
+        service.close(10L);
+        service.open(10L, 1000d);
+        service.join(10L, "user");
+
+        assertThrows(IllegalArgumentException.class, () -> service.status(10L, token, "user"));
+    }
+
+    @Test
+    @DisplayName("abrir sala de sessão inexistente deve lançar EntityNotFoundException")
+    void open_unknownSession_throws() {
+        when(sessionRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> service.open(99L, null));
+        assertThrows(EntityNotFoundException.class, () -> service.join(99L, "user"));
+    }
+}
@@ -0,0 +1,56 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionQueueTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("deve admitir em ordem de chegada na taxa configurada")
+    void advance_admitsFifoAtRate() {
+        AdmissionQueue queue = new AdmissionQueue(2, 0);
+        long first = queue.enqueue();
+        long second = queue.enqueue();
+        long third = queue.enqueue();
+
+        assertEquals(1, queue.advance(SECOND / 2));
+        assertTrue(queue.isAdmitted(first));
+        assertFalse(queue.isAdmitted(second));
+        assertEquals(2, queue.position(third));
+
+        assertEquals(1, queue.advance(SECOND));
+        assertTrue(queue.isAdmitted(second));
+        assertEquals(1, queue.position(third));
+        assertEquals(1, queue.waiting());
+    }
+
+    @Test
+    @DisplayName("fila ociosa não deve acumular crédito além de um segundo")
+    void advance_capsIdleCredit() {
+        AdmissionQueue queue = new AdmissionQueue(3, 0);
+        queue.advance(60 * SECOND);
+
+        for (int i = 0; i < 10; i++) queue.enqueue();
+
+        assertEquals(3, queue.advance(60 * SECOND));
+        assertEquals(7, queue.waiting());
+    }
+
+    @Test
+    @DisplayName("números não emitidos não devem ser considerados válidos")
+    void isIssued_onlyForHandedOutNumbers() {
+        AdmissionQueue queue = new AdmissionQueue(1, 0);
+        queue.enqueue();
+
+        assertTrue(queue.isIssued(1));
+        assertFalse(queue.isIssued(0));
+        assertFalse(queue.isIssued(2));
+        assertThrows(IllegalArgumentException.class, () -> new AdmissionQueue(0, 0));
+    }
+}
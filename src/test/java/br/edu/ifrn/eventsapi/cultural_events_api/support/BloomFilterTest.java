@@ -0,0 +1,54 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("chaves inseridas devem sempre ser encontradas")
+    void put_noFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<UUID> codes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID code = UUID.randomUUID();
+            codes.add(code);
+            filter.put(code.getMostSignificantBits(), code.getLeastSignificantBits());
+        }
+
+        for (UUID code : codes) {
+            assertTrue(filter.mightContain(code.getMostSignificantBits(), code.getLeastSignificantBits()));
+        }
+    }
+
+    @Test
+    @DisplayName("taxa de falsos positivos deve ficar perto da configurada")
+    void mightContain_falsePositiveRateNearConfigured() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            UUID code = UUID.randomUUID();
+            filter.put(code.getMostSignificantBits(), code.getLeastSignificantBits());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            UUID code = UUID.randomUUID();
+            if (filter.mightContain(code.getMostSignificantBits(), code.getLeastSignificantBits())) falsePositives++;
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("parâmetros inválidos devem lançar IllegalArgumentException")
+    void constructor_invalidArguments_throw() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
@@ -0,0 +1,58 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheListsTest {
+
+    @Test
+    @DisplayName("upsert deve substituir o elemento existente e anexar o novo")
+    void upsert_replacesOrAppends() {
+        CacheManager manager = new CaffeineCacheManager("list");
+        manager.getCache("list").put("k", List.of("a1", "b1"));
+
+        CacheLists.<String>upsert(manager, "list", "k", "a2", s -> s.startsWith("a"));
+        CacheLists.<String>upsert(manager, "list", "k", "c1", s -> s.startsWith("c"));
+
+        assertEquals(List.of("a2", "b1", "c1"), manager.getCache("list").get("k").get());
+    }
+
+    @Test
+    @DisplayName("remove deve tirar só os elementos que casam")
+    void remove_dropsMatching() {
+        CacheManager manager = new CaffeineCacheManager("list");
+        manager.getCache("list").put("k", List.of("a1", "b1"));
+
+        CacheLists.<String>remove(manager, "list", "k", s -> s.startsWith("a"));
+
+        assertEquals(List.of("b1"), manager.getCache("list").get("k").get());
+    }
+
+    @Test
+    @DisplayName("não deve criar a lista quando a chave não está em cache")
+    void upsert_absentKeyStaysAbsent() {
+        CacheManager manager = new CaffeineCacheManager("list");
+
+        CacheLists.<String>upsert(manager, "list", "k", "a1", s -> true);
+
+        assertNull(manager.getCache("list").get("k"));
+    }
+
+    @Test
+    @DisplayName("deve só invalidar a chave em caches que não são Caffeine")
+    void patch_otherCachesEvict() {
+        CacheManager manager = new ConcurrentMapCacheManager("list");
+        manager.getCache("list").put("k", List.of("a1"));
+
+        CacheLists.<String>upsert(manager, "list", "k", "b1", s -> false);
+
+        assertNull(manager.getCache("list").get("k"));
+    }
+}
@@ -0,0 +1,61 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentBitSetTest {
+
+    @Test
+    @DisplayName("set deve retornar true só na primeira vez")
+    void set_onlyFirstCallWins() {
+        ConcurrentBitSet bits = new ConcurrentBitSet();
+
+        assertTrue(bits.set(5_000_000_123L));
+        assertFalse(bits.set(5_000_000_123L));
+        assertTrue(bits.get(5_000_000_123L));
+        assertFalse(bits.get(5_000_000_124L));
+        assertEquals(1, bits.cardinality());
+    }
+
+    @Test
+    @DisplayName("clear deve desmarcar o bit")
+    void clear_unsetsBit() {
+        ConcurrentBitSet bits = new ConcurrentBitSet();
+        bits.set(64);
+
+        bits.clear(64);
+
+        assertFalse(bits.get(64));
+        assertTrue(bits.set(64));
+    }
+
+    @Test
+    @DisplayName("marcações concorrentes do mesmo bit devem ter exatamente um vencedor")
+    void set_concurrent_singleWinner() {
+        ConcurrentBitSet bits = new ConcurrentBitSet();
+        AtomicInteger winners = new AtomicInteger();
+
+        CompletableFuture.allOf(IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (long id = 0; id < 10_000; id++) {
+                        if (bits.set(id)) winners.incrementAndGet();
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(10_000, winners.get());
+        assertEquals(10_000, bits.cardinality());
+    }
+
+    @Test
+    @DisplayName("índice negativo deve lançar IndexOutOfBoundsException")
+    void set_negative_throws() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new ConcurrentBitSet().set(-1));
+    }
+}
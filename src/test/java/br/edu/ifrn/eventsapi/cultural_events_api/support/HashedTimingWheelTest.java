@@ -0,0 +1,73 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    HashedTimingWheel wheel;
+
+    @AfterEach
+    void close() {
+        if (wheel != null) wheel.close();
+    }
+
+    @Test
+    @DisplayName("deve arredondar o tamanho da roda para potência de dois")
+    void wheelSize_roundedToPowerOfTwo() {
+        wheel = new HashedTimingWheel(Duration.ofMillis(10), 100, Runnable::run, "test-wheel");
+        assertEquals(128, wheel.wheelSize());
+    }
+
+    @Test
+    @DisplayName("deve executar tarefas após o atraso, inclusive com mais de uma volta")
+    void schedule_firesAfterDelay() throws Exception {
+        wheel = new HashedTimingWheel(Duration.ofMillis(5), 4, Runnable::run, "test-wheel");
+        CountDownLatch fired = new CountDownLatch(2);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, Duration.ofMillis(10));
+        wheel.schedule(fired::countDown, Duration.ofMillis(60));
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(60));
+    }
+
+    @Test
+    @DisplayName("tarefas canceladas não devem executar")
+    void cancel_preventsExecution() throws Exception {
+        wheel = new HashedTimingWheel(Duration.ofMillis(5), 8, Runnable::run, "test-wheel");
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch other = new CountDownLatch(1);
+
+        var timeout = wheel.schedule(runs::incrementAndGet, Duration.ofMillis(20));
+        wheel.schedule(other::countDown, Duration.ofMillis(40));
+
+        assertTrue(timeout.cancel());
+        assertTrue(other.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    @DisplayName("tarefa expirada não pode mais ser cancelada")
+    void expired_cannotBeCancelled() throws Exception {
+        wheel = new HashedTimingWheel(Duration.ofMillis(5), 8, Runnable::run, "test-wheel");
+        CountDownLatch fired = new CountDownLatch(1);
+
+        var timeout = wheel.schedule(fired::countDown, Duration.ZERO);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+}
@@ -0,0 +1,89 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static ByteBuffer record(int value) {
+        return ByteBuffer.allocate(4).putInt(value).flip();
+    }
+
+    private List<Integer> replay() throws IOException {
+        List<Integer> values = new ArrayList<>();
+        MappedJournal.replay(dir, buf -> values.add(buf.getInt()));
+        return values;
+    }
+
+    @Test
+    @DisplayName("replay deve devolver os registros na ordem de gravação, atravessando segmentos")
+    void replay_acrossSegments() throws IOException {
+        try (MappedJournal journal = new MappedJournal(dir, 64, MappedJournal.FsyncPolicy.NEVER, Duration.ZERO)) {
+            for (int i = 0; i < 20; i++) journal.append(record(i));
+            assertTrue(journal.segmentIndex() > 0);
+        }
+
+        assertEquals(20, replay().size());
+        assertEquals(0, replay().get(0));
+        assertEquals(19, replay().get(19));
+    }
+
+    @Test
+    @DisplayName("reabrir o journal deve continuar depois do último registro")
+    void reopen_appendsAfterLastRecord() throws IOException {
+        try (MappedJournal journal = new MappedJournal(dir, 1024, MappedJournal.FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            journal.append(record(1));
+            journal.append(record(2));
+        }
+        try (MappedJournal journal = new MappedJournal(dir, 1024, MappedJournal.FsyncPolicy.INTERVAL, Duration.ofMillis(10))) {
+            journal.append(record(3));
+        }
+
+        assertEquals(List.of(1, 2, 3), replay());
+    }
+
+    @Test
+    @DisplayName("registro corrompido deve encerrar o replay sem devolvê-lo")
+    void replay_stopsAtCorruptRecord() throws IOException {
+        try (MappedJournal journal = new MappedJournal(dir, 1024, MappedJournal.FsyncPolicy.ALWAYS, Duration.ZERO)) {
+            journal.append(record(1));
+            journal.append(record(2));
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int secondPayload = 2 * MappedJournal.HEADER + 4;
+            file.seek(secondPayload);
+            file.writeInt(99);
+        }
+
+        assertEquals(List.of(1), replay());
+    }
+
+    @Test
+    @DisplayName("append deve recusar registros vazios ou maiores que o segmento")
+    void append_rejectsInvalidSize() throws IOException {
+        try (MappedJournal journal = new MappedJournal(dir, 64, MappedJournal.FsyncPolicy.NEVER, Duration.ZERO)) {
+            assertThrows(IllegalArgumentException.class, () -> journal.append(ByteBuffer.allocate(0)));
+            assertThrows(IllegalArgumentException.class, () -> journal.append(ByteBuffer.allocate(64)));
+        }
+    }
+}
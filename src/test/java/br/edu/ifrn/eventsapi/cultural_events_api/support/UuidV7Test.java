@@ -0,0 +1,53 @@
+package br.edu.ifrn.eventsapi.cultural_events_api.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("deve gerar UUID versão 7 com variante RFC e timestamp atual")
+    void randomUuid_hasVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.randomUuid();
+        long after = System.currentTimeMillis();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long ts = UuidV7.timestampMillis(uuid);
+        assertTrue(ts >= before && ts <= after + 1, "timestamp " + ts);
+    }
+
+    @Test
+    @DisplayName("valores gerados em sequência devem ser estritamente crescentes")
+    void randomUuid_isMonotonic() {
+        UUID prev = UuidV7.randomUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.randomUuid();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), prev.getMostSignificantBits()) > 0,
+                    prev + " >= " + next);
+            prev = next;
+        }
+    }
+
+    @Test
+    @DisplayName("contador esgotado no mesmo milissegundo deve avançar o timestamp")
+    void nextState_counterOverflow_carriesIntoTimestamp() {
+        UUID uuid = UuidV7.fromState((1000L << 12) | 0xFFF, 0);
+        UUID carried = UuidV7.fromState(((1000L << 12) | 0xFFF) + 1, 0);
+
+        assertEquals(1000L, UuidV7.timestampMillis(uuid));
+        assertEquals(1001L, UuidV7.timestampMillis(carried));
+        assertEquals(7, carried.version());
+    }
+
+    @Test
+    @DisplayName("timestampMillis com UUID v4 deve lançar IllegalArgumentException")
+    void timestampMillis_v4_throws() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampMillis(UUID.randomUUID()));
+    }
+}